@@ -0,0 +1,72 @@
+package com.example.tdd_projeto.benchmark;
+
+import com.example.tdd_projeto.domain.entity.Ranking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.UsuarioDTO;
+import com.example.tdd_projeto.shared.dto.UsuarioMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede os caminhos quentes do domínio: validação de Email, conversões do
+ * UsuarioMapper e formatação da variação do Ranking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DominioBenchmark {
+
+    @Param({"joao@example.com", "nome.sobrenome+curso@departamento.universidade.edu.br"})
+    private String endereco;
+
+    private Usuario usuario;
+    private UsuarioDTO dto;
+    private Ranking subiu;
+    private Ranking manteve;
+
+    @Setup
+    public void preparar() {
+        usuario = Usuario.builder()
+                .id(1L)
+                .nome("João Silva")
+                .email(Email.de(endereco))
+                .pontuacaoTotal(150)
+                .dataCadastro(LocalDateTime.now())
+                .ativo(true)
+                .build();
+        dto = UsuarioMapper.toDTO(usuario);
+        subiu = Ranking.builder().variacaoPosicao(2).build();
+        manteve = Ranking.builder().variacaoPosicao(0).build();
+    }
+
+    @Benchmark
+    public Email emailDe() {
+        return Email.de(endereco);
+    }
+
+    @Benchmark
+    public UsuarioDTO mapperToDTO() {
+        return UsuarioMapper.toDTO(usuario);
+    }
+
+    @Benchmark
+    public Usuario mapperToEntity() {
+        return UsuarioMapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public String variacaoFormatadaPositiva() {
+        return subiu.getVariacaoFormatada();
+    }
+
+    @Benchmark
+    public String variacaoFormatadaSemMudanca() {
+        return manteve.getVariacaoFormatada();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.tdd_projeto.benchmark;
+
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.RankingPosicao;
+import com.example.tdd_projeto.application.service.RankingService;
+import com.example.tdd_projeto.application.service.Usuario;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede RankingService.buscarRanking com o placar carregado com N usuários
+ * e um aluno com M engajamentos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RankingServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    private int usuarios;
+
+    @Param({"10", "10000"})
+    private int engajamentos;
+
+    private RankingService rankingService;
+    private Usuario aluno;
+
+    @Setup
+    public void preparar() {
+        PlacarRanking placar = new PlacarRanking();
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= usuarios; id++) {
+            placar.atualizar(id, random.nextInt(100_000));
+        }
+        rankingService = new RankingService(placar);
+        aluno = new Usuario(usuarios + 1L, "aluno");
+        for (int i = 0; i < engajamentos; i++) {
+            aluno.registrarEngajamento(i % 2 == 0 ? "postagem" : "resposta");
+        }
+    }
+
+    @Benchmark
+    public RankingPosicao buscarRanking() {
+        return rankingService.buscarRanking(aluno, "semanal");
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.tdd_projeto.benchmark;
+
+import com.example.tdd_projeto.application.service.Usuario;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o modelo em memória do aluno (application.service.Usuario) por quantidade de engajamentos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsuarioBenchmark {
+
+    private static final String[] TIPOS = {"postagem", "resposta", "curtida", "comentario", "compartilhamento"};
+
+    @Param({"10", "1000", "100000"})
+    private int engajamentos;
+
+    private Usuario aluno;
+
+    @Setup
+    public void preparar() {
+        aluno = new Usuario(1L, "aluno");
+        for (int i = 0; i < engajamentos; i++) {
+            aluno.registrarEngajamento(TIPOS[i % TIPOS.length]);
+        }
+    }
+
+    @Benchmark
+    public int getPontuacaoTotal() {
+        return aluno.getPontuacaoTotal();
+    }
+
+    @Benchmark
+    public int getTotalEngajamentos() {
+        return aluno.getTotalEngajamentos();
+    }
+
+    @Benchmark
+    public List<String> getEngajamentos() {
+        return aluno.getEngajamentos();
+    }
+}
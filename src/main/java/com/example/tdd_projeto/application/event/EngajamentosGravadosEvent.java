@@ -0,0 +1,18 @@
+package com.example.tdd_projeto.application.event;
+
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+
+import java.util.List;
+
+/**
+ * Publicado na transação que grava um lote de engajamentos
+ */
+public class EngajamentosGravadosEvent {
+    private final List<EngajamentoDTO> engajamentos;
+
+    public EngajamentosGravadosEvent(List<EngajamentoDTO> engajamentos) {
+        this.engajamentos = List.copyOf(engajamentos);
+    }
+
+    public List<EngajamentoDTO> getEngajamentos() { return engajamentos; }
+}
@@ -0,0 +1,18 @@
+package com.example.tdd_projeto.application.event;
+
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+
+import java.util.List;
+
+/**
+ * Publicado na transação que remove engajamentos já gravados
+ */
+public class EngajamentosRemovidosEvent {
+    private final List<EngajamentoDTO> engajamentos;
+
+    public EngajamentosRemovidosEvent(List<EngajamentoDTO> engajamentos) {
+        this.engajamentos = List.copyOf(engajamentos);
+    }
+
+    public List<EngajamentoDTO> getEngajamentos() { return engajamentos; }
+}
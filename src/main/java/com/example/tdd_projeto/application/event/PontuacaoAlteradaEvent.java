@@ -0,0 +1,16 @@
+package com.example.tdd_projeto.application.event;
+
+import java.util.Set;
+
+/**
+ * Publicado depois que engajamentos gravados alteraram a pontuação dos usuários
+ */
+public class PontuacaoAlteradaEvent {
+    private final Set<Long> usuarioIds;
+
+    public PontuacaoAlteradaEvent(Set<Long> usuarioIds) {
+        this.usuarioIds = Set.copyOf(usuarioIds);
+    }
+
+    public Set<Long> getUsuarioIds() { return usuarioIds; }
+}
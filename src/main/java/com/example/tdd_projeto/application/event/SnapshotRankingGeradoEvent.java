@@ -0,0 +1,21 @@
+package com.example.tdd_projeto.application.event;
+
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+
+import java.time.LocalDate;
+
+/**
+ * Publicado quando o snapshot de um período foi (re)escrito na tabela rankings
+ */
+public class SnapshotRankingGeradoEvent {
+    private final PeriodoRanking periodo;
+    private final LocalDate dataReferencia;
+
+    public SnapshotRankingGeradoEvent(PeriodoRanking periodo, LocalDate dataReferencia) {
+        this.periodo = periodo;
+        this.dataReferencia = dataReferencia;
+    }
+
+    public PeriodoRanking getPeriodo() { return periodo; }
+    public LocalDate getDataReferencia() { return dataReferencia; }
+}
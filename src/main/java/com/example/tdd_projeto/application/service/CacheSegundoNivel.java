@@ -0,0 +1,66 @@
+package com.example.tdd_projeto.application.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Descarta do cache de segundo nível do Hibernate o que foi alterado por SQL direto
+ * (JdbcTemplate), que o Hibernate não enxerga. Linhas atualizadas só descartam as
+ * próprias entidades: os contadores e pontos somados por SQL não mudam quais linhas
+ * uma consulta em cache devolve. Linhas inseridas descartam a região de consultas da
+ * tabela escrita (ex.: busca por email para usuarios), e só ela. Dentro de uma
+ * transação o descarte acontece depois do commit, para que nenhuma leitura
+ * concorrente volte a guardar o valor antigo. Sem o cache habilitado o descarte não
+ * tem efeito.
+ */
+@Component
+public class CacheSegundoNivel {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheSegundoNivel(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Entidades alteradas por SQL direto
+     */
+    public void descartar(Class<?> entidade, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> copia = List.copyOf(ids);
+        depoisDoCommit(() -> {
+            for (Long id : copia) {
+                entityManagerFactory.getCache().evict(entidade, id);
+            }
+        });
+    }
+
+    /**
+     * Linhas inseridas por SQL direto: só as consultas em cache da tabela ficam
+     * desatualizadas (ex.: {@code Usuario.REGIAO_CONSULTAS})
+     */
+    public void descartarConsultas(String regiao) {
+        depoisDoCommit(() -> entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegion(regiao));
+    }
+
+    private static void depoisDoCommit(Runnable descarte) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    descarte.run();
+                }
+            });
+        } else {
+            descarte.run();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.EngajamentosRemovidosEvent;
+import com.example.tdd_projeto.application.service.PlacarRanking.Entrada;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Checkpoint binário do placar em memória, para subir a aplicação sem reler a
+ * tabela de usuários.
+ *
+ * O arquivo (little-endian) tem um cabeçalho de {@value #TAMANHO_CABECALHO} bytes
+ * — assinatura, versão do formato, quantidade de entradas, versão do placar
+ * (placar_versao) refletida nele e momento da gravação — seguido das entradas
+ * (usuarioId long, pontuação int) na ordem do ranking e do CRC32C de todo o
+ * conteúdo anterior. A gravação usa um arquivo temporário e troca o checkpoint
+ * com um move atômico, então uma queda no meio nunca deixa um checkpoint pela metade.
+ *
+ * Na subida o arquivo é mapeado em memória, validado e carregado no placar em O(n);
+ * depois só os engajamentos gravados em versões do placar posteriores à do checkpoint
+ * são somados. A versão é avançada na transação de cada lote, na ordem de commit;
+ * o id não serve de marca, pois ids IDENTITY não seguem a ordem de commit.
+ * Engajamentos inseridos pela JPA não têm versão: não somam pontos nem entram no placar.
+ * Pontos dados fora dos engajamentos (ex.: SQL direto em pontuacao_total) depois do último checkpoint
+ * não são reaplicados; por isso o checkpoint também é gravado no desligamento e é
+ * descartado quando passa da idade máxima.
+ *
+ * Remover engajamentos invalida o checkpoint: o arquivo é apagado e um checkpoint
+ * cujo estado foi lido antes da remoção não é mais instalado. Sem isso a remoção de
+ * um engajamento já refletido no checkpoint se perderia na próxima restauração.
+ */
+@Service
+@ConditionalOnProperty(name = "placar.checkpoint.habilitado", havingValue = "true")
+public class CheckpointPlacar {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointPlacar.class);
+
+    static final int ASSINATURA = 0x50_4C_43_52; // "PLCR"
+    static final int VERSAO = 2;
+    static final int TAMANHO_CABECALHO = 32;
+    static final int TAMANHO_ENTRADA = 12;
+
+    private static final String SQL_DELTA = """
+        SELECT usuario_id, SUM(pontos) AS pontos
+        FROM engajamentos
+        WHERE versao_placar > ?
+        GROUP BY usuario_id
+        """;
+
+    private final PlacarRanking placar;
+    private final EngajamentoIngestaoService ingestao;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path arquivo;
+    private final Duration idadeMaxima;
+
+    // Só grava depois que o placar foi carregado, para não salvar um placar vazio
+    private volatile boolean placarCarregado;
+
+    // Troca e invalidação do arquivo; a geração muda a cada invalidação
+    private final Object arquivoLock = new Object();
+    private long geracao;
+
+    public CheckpointPlacar(
+            PlacarRanking placar,
+            EngajamentoIngestaoService ingestao,
+            JdbcTemplate jdbcTemplate,
+            @Value("${placar.checkpoint.arquivo:data/placar.chk}") Path arquivo,
+            @Value("${placar.checkpoint.idade-maxima-minutos:1440}") long idadeMaximaMinutos) {
+        this.placar = placar;
+        this.ingestao = ingestao;
+        this.jdbcTemplate = jdbcTemplate;
+        this.arquivo = arquivo;
+        this.idadeMaxima = Duration.ofMinutes(idadeMaximaMinutos);
+    }
+
+    /**
+     * Carrega o placar a partir do checkpoint e soma os engajamentos gravados depois dele.
+     * Retorna false (sem alterar o placar) se não houver checkpoint válido e recente.
+     * Roda entre dois lotes da ingestão: um lote gravado durante a restauração teria
+     * os pontos somados duas vezes (no placar e na leitura das versões posteriores).
+     */
+    public boolean restaurar() {
+        return ingestao.entreLotes(this::restaurarEntreLotes);
+    }
+
+    private boolean restaurarEntreLotes() {
+        if (!Files.isRegularFile(arquivo)) {
+            return false;
+        }
+        long inicio = System.nanoTime();
+        long versaoPlacar;
+        int quantidade;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            String problema = validar(dados);
+            if (problema != null) {
+                log.warn("Checkpoint do placar {} ignorado: {}", arquivo, problema);
+                return false;
+            }
+            long gravadoEm = dados.getLong(24);
+            if (System.currentTimeMillis() - gravadoEm > idadeMaxima.toMillis()) {
+                log.info("Checkpoint do placar {} ignorado: mais antigo que {}", arquivo, idadeMaxima);
+                return false;
+            }
+            quantidade = dados.getInt(8);
+            versaoPlacar = dados.getLong(16);
+            long[] usuarioIds = new long[quantidade];
+            int[] pontuacoes = new int[quantidade];
+            for (int i = 0, posicao = TAMANHO_CABECALHO; i < quantidade; i++, posicao += TAMANHO_ENTRADA) {
+                usuarioIds[i] = dados.getLong(posicao);
+                pontuacoes[i] = dados.getInt(posicao + 8);
+            }
+            placar.restaurar(usuarioIds, pontuacoes, quantidade);
+        } catch (IOException e) {
+            log.warn("Falha ao ler o checkpoint do placar {}", arquivo, e);
+            return false;
+        }
+
+        int[] usuariosAlterados = {0};
+        jdbcTemplate.query(SQL_DELTA, rs -> {
+            placar.adicionarPontos(rs.getLong("usuario_id"), rs.getInt("pontos"));
+            usuariosAlterados[0]++;
+        }, versaoPlacar);
+        placarCarregado = true;
+        log.info("Placar restaurado do checkpoint: {} usuários, {} atualizados por engajamentos posteriores, em {} ms",
+                quantidade, usuariosAlterados[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return true;
+    }
+
+    /**
+     * Avisa que o placar foi carregado por outro caminho e já pode ser gravado
+     */
+    public void placarCarregado() {
+        placarCarregado = true;
+    }
+
+    /**
+     * Apaga o checkpoint depois do commit de uma remoção de engajamentos
+     */
+    @TransactionalEventListener
+    public void aoRemoverEngajamentos(EngajamentosRemovidosEvent evento) {
+        invalidar();
+    }
+
+    /**
+     * Apaga o checkpoint atual e descarta gravações cujo estado foi lido antes desta chamada
+     */
+    public void invalidar() {
+        synchronized (arquivoLock) {
+            geracao++;
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao apagar o checkpoint do placar em " + arquivo, e);
+            }
+        }
+    }
+
+    /**
+     * Grava o checkpoint. A cópia do placar e a versão do placar no banco são lidas
+     * entre dois lotes da ingestão, para que correspondam ao mesmo estado.
+     */
+    @Scheduled(fixedDelayString = "${placar.checkpoint.intervalo-ms:60000}",
+               initialDelayString = "${placar.checkpoint.intervalo-ms:60000}")
+    @PreDestroy
+    public synchronized void gravar() {
+        if (!placarCarregado) {
+            return;
+        }
+        Estado estado = ingestao.entreLotes(() -> new Estado(
+                geracaoAtual(),
+                jdbcTemplate.queryForObject(GravadorLoteEngajamentos.SQL_VERSAO, Long.class),
+                placar.listar(1, Integer.MAX_VALUE)));
+
+        int tamanho = TAMANHO_CABECALHO + estado.entradas().size() * TAMANHO_ENTRADA + 4;
+        ByteBuffer dados = ByteBuffer.allocate(tamanho).order(ByteOrder.LITTLE_ENDIAN);
+        dados.putInt(ASSINATURA)
+                .putInt(VERSAO)
+                .putInt(estado.entradas().size())
+                .putInt(0)
+                .putLong(estado.versaoPlacar())
+                .putLong(System.currentTimeMillis());
+        for (Entrada entrada : estado.entradas()) {
+            dados.putLong(entrada.getUsuarioId()).putInt(entrada.getPontuacao());
+        }
+        dados.putInt(crc(dados, tamanho - 4));
+        dados.flip();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (dados.hasRemaining()) {
+                    canal.write(dados);
+                }
+                canal.force(true);
+            }
+            synchronized (arquivoLock) {
+                if (estado.geracao() != geracao) {
+                    // Uma remoção aconteceu depois da leitura do estado
+                    Files.deleteIfExists(temporario);
+                    return;
+                }
+                Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o checkpoint do placar em " + arquivo, e);
+        }
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    private long geracaoAtual() {
+        synchronized (arquivoLock) {
+            return geracao;
+        }
+    }
+
+    private static String validar(ByteBuffer dados) {
+        if (dados.limit() < TAMANHO_CABECALHO + 4 || dados.getInt(0) != ASSINATURA) {
+            return "assinatura inválida";
+        }
+        if (dados.getInt(4) != VERSAO) {
+            return "versão " + dados.getInt(4) + " não suportada";
+        }
+        long esperado = TAMANHO_CABECALHO + (long) dados.getInt(8) * TAMANHO_ENTRADA + 4;
+        if (dados.getInt(8) < 0 || dados.limit() != esperado) {
+            return "tamanho inconsistente";
+        }
+        if (dados.getInt(dados.limit() - 4) != crc(dados, dados.limit() - 4)) {
+            return "CRC não confere";
+        }
+        return null;
+    }
+
+    private static int crc(ByteBuffer dados, int tamanho) {
+        CRC32C crc = new CRC32C();
+        crc.update(dados.slice(0, tamanho));
+        return (int) crc.getValue();
+    }
+
+    private record Estado(long geracao, long versaoPlacar, List<Entrada> entradas) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.tdd_projeto.application.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Incrementos pendentes por id, acumulados sem bloqueio (CAS em um contador por
+ * id, então quem escreve nunca espera um lock). Os incrementos drenados ficam
+ * "em voo" até o chamador confirmar a gravação, para que as leituras continuem
+ * enxergando-os.
+ *
+ * Um contador zerado está descartado: quem escreve nunca soma nele, troca-o por
+ * um novo. Por isso ele pode sair do mapa com {@code remove(id, contador)} sem
+ * que um incremento concorrente se perca, e ids que param de receber incrementos
+ * não ficam no mapa.
+ */
+class DeltasPendentes {
+
+    private final ConcurrentHashMap<Long, AtomicLong> pendentes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> emVoo = new ConcurrentHashMap<>();
+    private final LongAdder totalPendente = new LongAdder();
+
+    void adicionar(Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        totalPendente.add(Math.abs(delta));
+        while (true) {
+            AtomicLong contador = pendentes.get(id);
+            if (contador == null) {
+                contador = pendentes.putIfAbsent(id, new AtomicLong(delta));
+                if (contador == null) {
+                    return;
+                }
+            }
+            long atual;
+            while ((atual = contador.get()) != 0) {
+                if (contador.compareAndSet(atual, atual + delta)) {
+                    return;
+                }
+            }
+            if (pendentes.replace(id, contador, new AtomicLong(delta))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Incrementos ainda não confirmados no banco (pendentes + em voo)
+     */
+    long naoGravado(Long id) {
+        AtomicLong pendente = pendentes.get(id);
+        long valor = pendente == null ? 0 : pendente.get();
+        return valor + emVoo.getOrDefault(id, 0L);
+    }
+
+    /**
+     * Soma aproximada do volume pendente, usada para disparar gravações por limite
+     */
+    long volumePendente() {
+        return totalPendente.sum();
+    }
+
+    /**
+     * Move os incrementos pendentes para "em voo" e os retorna para gravação
+     */
+    Map<Long, Long> drenar() {
+        totalPendente.reset();
+        Map<Long, Long> drenados = new HashMap<>();
+        pendentes.forEach((id, contador) -> {
+            long delta = contador.getAndSet(0);
+            if (delta != 0) {
+                emVoo.merge(id, delta, Long::sum);
+                drenados.put(id, delta);
+            } else {
+                pendentes.remove(id, contador);
+            }
+        });
+        return drenados;
+    }
+
+    /**
+     * Gravação confirmada: os incrementos deixam de ser somados nas leituras e
+     * os contadores que continuam zerados saem do mapa
+     */
+    void confirmar(Map<Long, Long> drenados) {
+        drenados.forEach((id, delta) -> {
+            emVoo.computeIfPresent(id, (chave, valor) -> {
+                long restante = valor - delta;
+                return restante == 0 ? null : restante;
+            });
+            AtomicLong contador = pendentes.get(id);
+            if (contador != null && contador.get() == 0) {
+                pendentes.remove(id, contador);
+            }
+        });
+    }
+
+    /**
+     * Gravação falhou: os incrementos voltam a ficar pendentes
+     */
+    void devolver(Map<Long, Long> drenados) {
+        confirmar(drenados);
+        drenados.forEach(this::adicionar);
+    }
+}
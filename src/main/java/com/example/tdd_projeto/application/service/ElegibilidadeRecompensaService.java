@@ -0,0 +1,145 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa;
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa.SituacaoElegibilidade;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Elegibilidade à recompensa mensal por limite de pontos.
+ *
+ * O cruzamento do limite é detectado no próprio lote de engajamentos, logo depois
+ * de os agregados mensais serem atualizados: só os usuários e meses do lote são
+ * verificados, e quem já passou do limite e ainda não tem registro no mês ganha
+ * uma linha em elegibilidades_recompensa. Como os agregados do usuário ficam
+ * travados até o commit, dois lotes não registram o mesmo cruzamento, e a chave
+ * única (usuario_id, mes) garante isso de qualquer forma.
+ *
+ * O limite padrão vem de recompensa.limite-padrao e pode ser trocado para um mês
+ * com recompensa.limites.AAAA-MM; um limite menor ou igual a zero desativa o mês.
+ * O fechamento apenas marca como concedidas as elegibilidades já registradas.
+ */
+@Service
+public class ElegibilidadeRecompensaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ElegibilidadeRecompensaService.class);
+
+    private static final String SQL_REGISTRAR_CRUZAMENTOS = """
+        INSERT INTO elegibilidades_recompensa (usuario_id, mes, limite, pontos, data_cruzamento, situacao)
+        SELECT p.usuario_id, p.inicio_periodo, ?, p.pontos, ?, 'ELEGIVEL'
+        FROM pontuacoes_periodo p
+        WHERE p.periodo = 'MENSAL' AND p.inicio_periodo = ? AND p.pontos >= ?
+          AND p.usuario_id IN (%s)
+          AND NOT EXISTS (SELECT 1 FROM elegibilidades_recompensa e
+                          WHERE e.usuario_id = p.usuario_id AND e.mes = p.inicio_periodo)
+        """;
+
+    private static final String SQL_FINALIZAR = """
+        UPDATE elegibilidades_recompensa SET situacao = 'CONCEDIDA', data_finalizacao = ?
+        WHERE mes <= ? AND situacao = 'ELEGIVEL'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElegibilidadeRecompensaRepository repository;
+    private final Environment environment;
+    private final int limitePadrao;
+
+    public ElegibilidadeRecompensaService(
+            JdbcTemplate jdbcTemplate,
+            ElegibilidadeRecompensaRepository repository,
+            Environment environment,
+            @Value("${recompensa.limite-padrao:1000}") int limitePadrao) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        this.environment = environment;
+        this.limitePadrao = limitePadrao;
+    }
+
+    /**
+     * Registra os usuários do lote que passaram do limite do mês. Deve rodar na
+     * transação do lote, depois de atualizar os agregados por período.
+     * Retorna quantas elegibilidades novas foram registradas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int registrarCruzamentos(List<EngajamentoDTO> lote) {
+        Map<LocalDate, Set<Long>> usuariosPorMes = new TreeMap<>();
+        for (EngajamentoDTO engajamento : lote) {
+            if (engajamento.getPontos() > 0) {
+                usuariosPorMes.computeIfAbsent(engajamento.getDataEngajamento().toLocalDate().withDayOfMonth(1),
+                        mes -> new TreeSet<>()).add(engajamento.getUsuarioId());
+            }
+        }
+
+        int registradas = 0;
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<LocalDate, Set<Long>> entrada : usuariosPorMes.entrySet()) {
+            int limite = limite(YearMonth.from(entrada.getKey()));
+            if (limite <= 0) {
+                continue;
+            }
+            List<Object> parametros = new ArrayList<>(entrada.getValue().size() + 4);
+            parametros.add(limite);
+            parametros.add(agora);
+            parametros.add(Date.valueOf(entrada.getKey()));
+            parametros.add(limite);
+            parametros.addAll(entrada.getValue());
+            String marcadores = String.join(",", Collections.nCopies(entrada.getValue().size(), "?"));
+            registradas += jdbcTemplate.update(SQL_REGISTRAR_CRUZAMENTOS.formatted(marcadores), parametros.toArray());
+        }
+        return registradas;
+    }
+
+    /**
+     * Fecha o mês: marca como concedidas as elegibilidades ainda abertas até ele,
+     * inclusive as de meses anteriores registradas por engajamentos retroativos.
+     * Retorna quantas foram concedidas.
+     */
+    @Transactional
+    public int finalizarAte(YearMonth mes) {
+        return jdbcTemplate.update(SQL_FINALIZAR, Timestamp.valueOf(LocalDateTime.now()), Date.valueOf(mes.atDay(1)));
+    }
+
+    /**
+     * Fechamento automático do mês anterior (por padrão no dia 1, às 00:05)
+     */
+    @Scheduled(cron = "${recompensa.fechamento.cron:0 5 0 1 * *}")
+    public void fecharMesAnterior() {
+        YearMonth mes = YearMonth.now().minusMonths(1);
+        int concedidas = finalizarAte(mes);
+        log.info("Recompensas de {} fechadas: {} concedidas", mes, concedidas);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ElegibilidadeRecompensa> listar(YearMonth mes, SituacaoElegibilidade situacao) {
+        return repository.findByMesAndSituacaoOrderByIdAsc(mes.atDay(1), situacao);
+    }
+
+    /**
+     * Limite de pontos do mês (recompensa.limites.AAAA-MM ou o padrão)
+     */
+    public int limite(YearMonth mes) {
+        return environment.getProperty("recompensa.limites." + mes, Integer.class, limitePadrao);
+    }
+}
@@ -0,0 +1,369 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.PontuacaoAlteradaEvent;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Ingestão assíncrona de engajamentos com commit em grupo.
+ *
+ * Os eventos entram em uma fila limitada (quem envia fica bloqueado quando
+ * ela enche) e uma thread dedicada os grava em lotes: cada lote é fechado ao
+ * atingir o tamanho máximo ou após o tempo de espera (linger), e é persistido
+ * em uma única transação. O futuro devolvido por {@link #enviar} só completa
+ * depois do commit do lote que contém o evento.
+ *
+ * Se o lote é recusado pelos dados (ex.: um evento com usuário inexistente), ele é
+ * dividido ao meio e cada metade é gravada de novo, até isolar os eventos ruins:
+ * só os futuros deles falham. Outras falhas (banco indisponível, timeout) não
+ * dependem do evento, então o lote inteiro falha sem novas tentativas.
+ *
+ * Depois do commit o lote está gravado: uma falha ao atualizar o placar, as janelas
+ * ou quem ouve a alteração de pontuação é registrada à parte e não falha os futuros.
+ * Ao parar, o que ainda estiver na fila é gravado; o que sobrar (parada
+ * interrompida, envio concorrente com a parada) é rejeitado.
+ */
+@Service
+public class EngajamentoIngestaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(EngajamentoIngestaoService.class);
+
+    private final GravadorLoteEngajamentos gravador;
+    private final PlacarRanking placar;
+    private final JanelaDeslizanteService janelas;
+    private final ApplicationEventPublisher eventos;
+    private final Map<TipoEngajamento, Counter> gravadosPorTipo = new EnumMap<>(TipoEngajamento.class);
+    private final Counter falhas;
+    private final Counter falhasPosCommit;
+    private final Timer tempoLote;
+    private final BlockingQueue<Pendente> fila;
+    private final ReentrantLock aplicacao = new ReentrantLock();
+    private final int tamanhoLote;
+    private final long lingerNanos;
+    private final long esperaMaximaMs;
+
+    private volatile boolean executando;
+    private Thread trabalhador;
+
+    public EngajamentoIngestaoService(
+            GravadorLoteEngajamentos gravador,
+            PlacarRanking placar,
+            JanelaDeslizanteService janelas,
+            ApplicationEventPublisher eventos,
+            MeterRegistry registry,
+            @Value("${engajamento.ingestao.capacidade-fila:10000}") int capacidadeFila,
+            @Value("${engajamento.ingestao.tamanho-lote:500}") int tamanhoLote,
+            @Value("${engajamento.ingestao.linger-ms:10}") long lingerMs,
+            @Value("${engajamento.ingestao.espera-maxima-ms:5000}") long esperaMaximaMs) {
+        if (capacidadeFila <= 0 || tamanhoLote <= 0 || lingerMs < 0) {
+            throw new IllegalArgumentException("Configuração de ingestão inválida");
+        }
+        this.gravador = gravador;
+        this.placar = placar;
+        this.janelas = janelas;
+        this.eventos = eventos;
+        for (TipoEngajamento tipo : TipoEngajamento.values()) {
+            gravadosPorTipo.put(tipo, Counter.builder("engajamentos.ingeridos")
+                    .description("Engajamentos gravados pela ingestão")
+                    .tag("tipo", tipo.name())
+                    .register(registry));
+        }
+        this.falhas = Counter.builder("engajamentos.ingestao.falhas")
+                .description("Engajamentos descartados por falha na gravação do lote")
+                .register(registry);
+        this.falhasPosCommit = Counter.builder("engajamentos.ingestao.falhas-pos-commit")
+                .description("Engajamentos gravados cuja aplicação após o commit falhou")
+                .register(registry);
+        this.tempoLote = Timer.builder("engajamentos.ingestao.lote")
+                .description("Tempo de gravação de um lote de engajamentos")
+                .publishPercentileHistogram()
+                .register(registry);
+        registry.gauge("engajamentos.ingestao.pendentes", this, EngajamentoIngestaoService::pendentes);
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        executando = true;
+        trabalhador = new Thread(this::executar, "ingestao-engajamentos");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    @PreDestroy
+    public void parar() throws InterruptedException {
+        executando = false;
+        trabalhador.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Enfileira um engajamento. Bloqueia enquanto a fila estiver cheia (até a
+     * espera máxima configurada) e retorna um futuro que completa quando o
+     * engajamento estiver gravado no banco.
+     */
+    public CompletableFuture<Void> enviar(EngajamentoDTO engajamento) {
+        Pendente pendente = new Pendente(normalizar(engajamento));
+        try {
+            if (!executando || !fila.offer(pendente, esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Fila de ingestão de engajamentos indisponível");
+            }
+            // A parada pode ter esvaziado a fila entre a verificação e a inserção
+            if (!executando && fila.remove(pendente)) {
+                throw new IllegalStateException("Fila de ingestão de engajamentos indisponível");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Envio de engajamento interrompido", e);
+        }
+        return pendente.gravado;
+    }
+
+    /**
+     * Envia e aguarda o commit do engajamento
+     */
+    public void enviarEAguardar(EngajamentoDTO engajamento) {
+        enviar(engajamento).join();
+    }
+
+    /**
+     * Quantidade de eventos aguardando gravação
+     */
+    public int pendentes() {
+        return fila.size();
+    }
+
+    /**
+     * Executa a ação enquanto nenhum lote está entre o commit e a atualização do
+     * placar e das janelas deslizantes, ou seja, com os dois refletindo exatamente
+     * os engajamentos gravados.
+     */
+    public <T> T entreLotes(Supplier<T> acao) {
+        aplicacao.lock();
+        try {
+            return acao.get();
+        } finally {
+            aplicacao.unlock();
+        }
+    }
+
+    /**
+     * Remove engajamentos já gravados e desfaz os seus pontos no placar e nas
+     * janelas deslizantes. Roda entre dois lotes, como a gravação; a remoção é
+     * publicada (estornos no log de engajamentos, invalidação do checkpoint do placar).
+     * Retorna quantos engajamentos foram removidos.
+     */
+    public int remover(Collection<Long> engajamentoIds) {
+        GravadorLoteEngajamentos.Remocao remocao;
+        aplicacao.lock();
+        try {
+            remocao = gravador.remover(engajamentoIds);
+            remocao.pontos().forEach(placar::adicionarPontos);
+            for (EngajamentoDTO removido : remocao.engajamentos()) {
+                janelas.registrar(removido.getUsuarioId(),
+                        removido.getDataEngajamento().toLocalDate(), -removido.getPontos());
+            }
+        } finally {
+            aplicacao.unlock();
+        }
+        if (!remocao.pontos().isEmpty()) {
+            eventos.publishEvent(new PontuacaoAlteradaEvent(remocao.pontos().keySet()));
+        }
+        return remocao.engajamentos().size();
+    }
+
+    /**
+     * Aplica engajamentos inseridos (sinal 1) ou removidos (sinal -1) pela JPA,
+     * depois do commit deles: soma ao placar os pontos de usuário que a transação
+     * alterou, registra os engajamentos nas janelas deslizantes e publica a
+     * alteração de pontuação. Roda entre dois lotes, como {@link #remover}.
+     */
+    public void aplicarEscritaJpa(Map<Long, Integer> pontos, List<EngajamentoDTO> engajamentos, int sinal) {
+        Set<Long> usuarioIds = new TreeSet<>(pontos.keySet());
+        aplicacao.lock();
+        try {
+            pontos.forEach(placar::adicionarPontos);
+            for (EngajamentoDTO engajamento : engajamentos) {
+                janelas.registrar(engajamento.getUsuarioId(),
+                        engajamento.getDataEngajamento().toLocalDate(), sinal * engajamento.getPontos());
+                usuarioIds.add(engajamento.getUsuarioId());
+            }
+        } finally {
+            aplicacao.unlock();
+        }
+        if (!usuarioIds.isEmpty()) {
+            eventos.publishEvent(new PontuacaoAlteradaEvent(usuarioIds));
+        }
+    }
+
+    private EngajamentoDTO normalizar(EngajamentoDTO engajamento) {
+        if (engajamento == null || engajamento.getUsuarioId() == null || engajamento.getTipo() == null) {
+            throw new IllegalArgumentException("Engajamento deve informar usuário e tipo");
+        }
+        TipoEngajamento tipo = TipoEngajamento.valueOf(engajamento.getTipo());
+        Integer pontos = engajamento.getPontos() != null ? engajamento.getPontos() : tipo.getPontos();
+        if (pontos < 0) {
+            throw new IllegalArgumentException("Pontos devem ser positivos");
+        }
+        return EngajamentoDTO.builder()
+                .usuarioId(engajamento.getUsuarioId())
+                .conteudoId(engajamento.getConteudoId())
+                .tipo(tipo.name())
+                .pontos(pontos)
+                .dataEngajamento(engajamento.getDataEngajamento() != null
+                        ? engajamento.getDataEngajamento() : LocalDateTime.now())
+                .build();
+    }
+
+    private void executar() {
+        List<Pendente> lote = new ArrayList<>(tamanhoLote);
+        while (executando || !fila.isEmpty()) {
+            try {
+                Pendente primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                long prazo = System.nanoTime() + lingerNanos;
+                while (lote.size() < tamanhoLote) {
+                    if (fila.drainTo(lote, tamanhoLote - lote.size()) > 0) {
+                        continue;
+                    }
+                    long restante = prazo - System.nanoTime();
+                    Pendente proximo = restante > 0 ? fila.poll(restante, TimeUnit.NANOSECONDS) : null;
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executando = false;
+                rejeitar(lote);
+                break;
+            } finally {
+                lote.clear();
+            }
+        }
+        List<Pendente> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        rejeitar(restantes);
+    }
+
+    private void rejeitar(List<Pendente> pendentes) {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        log.warn("Ingestão encerrada com {} engajamentos não gravados", pendentes.size());
+        IllegalStateException erro = new IllegalStateException("Ingestão de engajamentos encerrada");
+        for (Pendente pendente : pendentes) {
+            pendente.gravado.completeExceptionally(erro);
+        }
+    }
+
+    private void gravar(List<Pendente> lote) {
+        List<EngajamentoDTO> engajamentos = new ArrayList<>(lote.size());
+        for (Pendente pendente : lote) {
+            engajamentos.add(pendente.engajamento);
+        }
+        long inicio = System.nanoTime();
+        Map<Long, Integer> deltas;
+        aplicacao.lock();
+        try {
+            deltas = gravador.gravar(engajamentos);
+        } catch (RuntimeException e) {
+            aplicacao.unlock();
+            if (e instanceof DataIntegrityViolationException) {
+                isolarFalha(lote, e);
+            } else {
+                falhar(lote, e);
+            }
+            return;
+        }
+        try {
+            try {
+                deltas.forEach(placar::adicionarPontos);
+                for (EngajamentoDTO engajamento : engajamentos) {
+                    janelas.registrar(engajamento.getUsuarioId(),
+                            engajamento.getDataEngajamento().toLocalDate(), engajamento.getPontos());
+                }
+            } finally {
+                aplicacao.unlock();
+            }
+            tempoLote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            for (EngajamentoDTO engajamento : engajamentos) {
+                gravadosPorTipo.get(TipoEngajamento.valueOf(engajamento.getTipo())).increment();
+            }
+            // Invalida as leituras em cache antes de liberar quem aguarda a gravação
+            eventos.publishEvent(new PontuacaoAlteradaEvent(deltas.keySet()));
+        } catch (RuntimeException e) {
+            log.error("Falha ao aplicar lote de {} engajamentos já gravados", lote.size(), e);
+            falhasPosCommit.increment(lote.size());
+        } finally {
+            for (Pendente pendente : lote) {
+                pendente.gravado.complete(null);
+            }
+        }
+    }
+
+    private void falhar(List<Pendente> lote, RuntimeException e) {
+        log.error("Falha ao gravar lote de {} engajamentos", lote.size(), e);
+        falhas.increment(lote.size());
+        for (Pendente pendente : lote) {
+            pendente.gravado.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * O banco recusou os dados do lote: grava cada metade de novo até que só o
+     * evento que falha sozinho seja descartado
+     */
+    private void isolarFalha(List<Pendente> lote, RuntimeException e) {
+        if (lote.size() == 1) {
+            falhar(lote, e);
+            return;
+        }
+        log.debug("Falha ao gravar lote de {} engajamentos; gravando em metades: {}", lote.size(), e.toString());
+        int meio = lote.size() / 2;
+        gravar(lote.subList(0, meio));
+        gravar(lote.subList(meio, lote.size()));
+    }
+
+    private static final class Pendente {
+        private final EngajamentoDTO engajamento;
+        private final CompletableFuture<Void> gravado = new CompletableFuture<>();
+
+        private Pendente(EngajamentoDTO engajamento) {
+            this.engajamento = engajamento;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.EngajamentosGravadosEvent;
+import com.example.tdd_projeto.application.event.EngajamentosRemovidosEvent;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Grava um lote de engajamentos em uma única transação: avança a versão do
+ * placar, insere todas as linhas (marcadas com essa versão) com JDBC batch,
+ * aplica a soma dos pontos de cada usuário com um UPDATE atômico
+ * (pontuacao_total = pontuacao_total + delta), soma os contadores de
+ * engajamentos dos conteúdos, atualiza os agregados por período e registra
+ * quem cruzou o limite da recompensa mensal. Ouvintes de
+ * {@link EngajamentosGravadosEvent} recebem o lote dentro da transação (ou depois
+ * do commit, com @TransactionalEventListener), com o id gerado de cada engajamento.
+ */
+@Component
+public class GravadorLoteEngajamentos {
+
+    private static final String SQL_INSERIR_ENGAJAMENTO = "INSERT INTO engajamentos "
+        + "(usuario_id, conteudo_id, tipo, pontos, data_engajamento, versao_placar) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // A linha fica bloqueada até o commit: as versões seguem a ordem de commit dos lotes
+    private static final String SQL_AVANCAR_VERSAO = "UPDATE placar_versao SET versao = versao + 1 WHERE id = 1";
+
+    static final String SQL_VERSAO = "SELECT versao FROM placar_versao WHERE id = 1";
+
+    private static final String SQL_SOMAR_PONTOS =
+        "UPDATE usuarios SET pontuacao_total = COALESCE(pontuacao_total, 0) + ? WHERE id = ?";
+
+    // Colunas por tipo na ordem do enum TipoEngajamento
+    private static final String SQL_SOMAR_CONTADORES = """
+        UPDATE conteudos SET total_engajamentos = total_engajamentos + ?,
+            total_postagens = total_postagens + ?, total_respostas = total_respostas + ?,
+            total_curtidas = total_curtidas + ?, total_comentarios = total_comentarios + ?,
+            total_compartilhamentos = total_compartilhamentos + ?
+        WHERE id = ?
+        """;
+
+    private static final String SQL_TRAVAR_ENGAJAMENTOS = """
+        SELECT id, usuario_id, conteudo_id, tipo, pontos, data_engajamento, versao_placar
+        FROM engajamentos WHERE id IN (%s) ORDER BY id FOR UPDATE
+        """;
+
+    private static final TipoEngajamento[] TIPOS = TipoEngajamento.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PontuacaoPeriodoService pontuacaoPeriodoService;
+    private final ElegibilidadeRecompensaService elegibilidadeRecompensaService;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final ApplicationEventPublisher eventos;
+
+    public GravadorLoteEngajamentos(JdbcTemplate jdbcTemplate,
+                                    PontuacaoPeriodoService pontuacaoPeriodoService,
+                                    ElegibilidadeRecompensaService elegibilidadeRecompensaService,
+                                    CacheSegundoNivel cacheSegundoNivel,
+                                    ApplicationEventPublisher eventos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pontuacaoPeriodoService = pontuacaoPeriodoService;
+        this.elegibilidadeRecompensaService = elegibilidadeRecompensaService;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.eventos = eventos;
+    }
+
+    /**
+     * Persiste o lote, preenche o id de cada engajamento e retorna os pontos
+     * somados por usuário (ordenados por id)
+     */
+    @Transactional
+    public Map<Long, Integer> gravar(List<EngajamentoDTO> lote) {
+        jdbcTemplate.update(SQL_AVANCAR_VERSAO);
+        long versao = jdbcTemplate.queryForObject(SQL_VERSAO, Long.class);
+        GeneratedKeyHolder ids = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(SQL_INSERIR_ENGAJAMENTO, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    EngajamentoDTO engajamento = lote.get(i);
+                    ps.setLong(1, engajamento.getUsuarioId());
+                    if (engajamento.getConteudoId() != null) {
+                        ps.setLong(2, engajamento.getConteudoId());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, engajamento.getTipo());
+                    ps.setInt(4, engajamento.getPontos());
+                    ps.setTimestamp(5, Timestamp.valueOf(engajamento.getDataEngajamento()));
+                    ps.setLong(6, versao);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return lote.size();
+                }
+            },
+            ids);
+        List<Map<String, Object>> chaves = ids.getKeyList();
+        for (int i = 0; i < lote.size(); i++) {
+            lote.get(i).setId(((Number) chaves.get(i).values().iterator().next()).longValue());
+        }
+
+        Map<Long, Integer> deltas = somarPontos(lote, 1);
+        somarContadores(lote, 1);
+        pontuacaoPeriodoService.registrarLote(lote);
+        elegibilidadeRecompensaService.registrarCruzamentos(lote);
+        eventos.publishEvent(new EngajamentosGravadosEvent(lote));
+
+        return deltas;
+    }
+
+    /**
+     * Remove os engajamentos e desfaz, na mesma transação, os contadores dos
+     * conteúdos, os agregados por período e os pontos dos usuários somados pela
+     * ingestão (versao_placar preenchida; os inseridos pela JPA não somaram). Ids
+     * inexistentes são ignorados. Retorna os engajamentos removidos (ordenados por
+     * id) e os pontos desfeitos por usuário.
+     *
+     * A remoção é publicada como {@link EngajamentosRemovidosEvent}; elegibilidades
+     * já registradas são mantidas.
+     */
+    @Transactional
+    public Remocao remover(Collection<Long> engajamentoIds) {
+        if (engajamentoIds.isEmpty()) {
+            return new Remocao(List.of(), Map.of());
+        }
+        Object[] ids = new TreeSet<>(engajamentoIds).toArray();
+        String marcadores = String.join(",", Collections.nCopies(ids.length, "?"));
+        List<EngajamentoDTO> comPlacar = new ArrayList<>();
+        List<EngajamentoDTO> removidos = jdbcTemplate.query(SQL_TRAVAR_ENGAJAMENTOS.formatted(marcadores),
+            (rs, linha) -> {
+                EngajamentoDTO removido = EngajamentoDTO.builder()
+                        .id(rs.getLong("id"))
+                        .usuarioId(rs.getLong("usuario_id"))
+                        .conteudoId(rs.getObject("conteudo_id", Long.class))
+                        .tipo(rs.getString("tipo"))
+                        .pontos(rs.getInt("pontos"))
+                        .dataEngajamento(rs.getTimestamp("data_engajamento").toLocalDateTime())
+                        .build();
+                if (rs.getObject("versao_placar") != null) {
+                    comPlacar.add(removido);
+                }
+                return removido;
+            },
+            ids);
+        if (removidos.isEmpty()) {
+            return new Remocao(removidos, Map.of());
+        }
+        jdbcTemplate.update("DELETE FROM engajamentos WHERE id IN (" + marcadores + ")", ids);
+
+        Map<Long, Integer> deltas = somarPontos(comPlacar, -1);
+        somarContadores(removidos, -1);
+        List<EngajamentoDTO> estornos = new ArrayList<>(removidos.size());
+        for (EngajamentoDTO removido : removidos) {
+            estornos.add(EngajamentoDTO.builder()
+                    .usuarioId(removido.getUsuarioId())
+                    .pontos(-removido.getPontos())
+                    .dataEngajamento(removido.getDataEngajamento())
+                    .build());
+        }
+        pontuacaoPeriodoService.registrarLote(estornos);
+        eventos.publishEvent(new EngajamentosRemovidosEvent(removidos));
+        return new Remocao(removidos, deltas);
+    }
+
+    /**
+     * Soma (sinal 1) ou desfaz (sinal -1) os contadores dos conteúdos e os agregados
+     * por período de engajamentos inseridos ou removidos pela JPA, na transação deles.
+     * Pontos dos usuários só são desfeitos para os que a ingestão gravou
+     * ({@link #estornarPontos}).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sincronizarAgregados(List<EngajamentoDTO> engajamentos, int sinal) {
+        somarContadores(engajamentos, sinal);
+        List<EngajamentoDTO> pontos = new ArrayList<>(engajamentos.size());
+        for (EngajamentoDTO engajamento : engajamentos) {
+            pontos.add(EngajamentoDTO.builder()
+                    .usuarioId(engajamento.getUsuarioId())
+                    .pontos(sinal * engajamento.getPontos())
+                    .dataEngajamento(engajamento.getDataEngajamento())
+                    .build());
+        }
+        pontuacaoPeriodoService.registrarLote(pontos);
+    }
+
+    /**
+     * Desfaz os pontos dos usuários de engajamentos gravados pela ingestão e
+     * removidos pela JPA, na transação da remoção. Retorna os pontos desfeitos
+     * por usuário, para o placar.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Integer> estornarPontos(List<EngajamentoDTO> engajamentos) {
+        return somarPontos(engajamentos, -1);
+    }
+
+    private Map<Long, Integer> somarPontos(List<EngajamentoDTO> engajamentos, int sinal) {
+        // Ordem fixa de ids evita deadlock entre lotes concorrentes
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (EngajamentoDTO engajamento : engajamentos) {
+            deltas.merge(engajamento.getUsuarioId(), sinal * engajamento.getPontos(), Integer::sum);
+        }
+        if (deltas.isEmpty()) {
+            return deltas;
+        }
+        List<Object[]> atualizacoes = new ArrayList<>(deltas.size());
+        deltas.forEach((usuarioId, pontos) -> atualizacoes.add(new Object[] {pontos, usuarioId}));
+        jdbcTemplate.batchUpdate(SQL_SOMAR_PONTOS, atualizacoes);
+        cacheSegundoNivel.descartar(Usuario.class, deltas.keySet());
+        return deltas;
+    }
+
+    private void somarContadores(List<EngajamentoDTO> engajamentos, int sinal) {
+        Map<Long, int[]> porConteudo = new TreeMap<>();
+        for (EngajamentoDTO engajamento : engajamentos) {
+            if (engajamento.getConteudoId() != null) {
+                porConteudo.computeIfAbsent(engajamento.getConteudoId(), id -> new int[TIPOS.length])
+                        [TipoEngajamento.valueOf(engajamento.getTipo()).ordinal()] += sinal;
+            }
+        }
+        if (porConteudo.isEmpty()) {
+            return;
+        }
+        List<Object[]> atualizacoes = new ArrayList<>(porConteudo.size());
+        porConteudo.forEach((conteudoId, contagens) -> {
+            Object[] parametros = new Object[TIPOS.length + 2];
+            int total = 0;
+            for (int i = 0; i < TIPOS.length; i++) {
+                parametros[i + 1] = contagens[i];
+                total += contagens[i];
+            }
+            parametros[0] = total;
+            parametros[TIPOS.length + 1] = conteudoId;
+            atualizacoes.add(parametros);
+        });
+        jdbcTemplate.batchUpdate(SQL_SOMAR_CONTADORES, atualizacoes);
+        cacheSegundoNivel.descartar(Conteudo.class, porConteudo.keySet());
+    }
+
+    /**
+     * Engajamentos removidos e os pontos desfeitos por usuário (ordenados por id)
+     */
+    public record Remocao(List<EngajamentoDTO> engajamentos, Map<Long, Integer> pontos) {
+    }
+}
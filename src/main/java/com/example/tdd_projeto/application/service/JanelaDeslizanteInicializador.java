@@ -0,0 +1,47 @@
+package com.example.tdd_projeto.application.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Preenche as janelas deslizantes com os pontos diários dos últimos 30 dias quando
+ * a aplicação sobe. Lê o acumulado DIARIO de pontuacoes_periodo (uma linha por
+ * usuário e dia) em vez de reagregar os engajamentos.
+ *
+ * A limpeza e a carga rodam entre dois lotes da ingestão, que soma nas janelas
+ * ainda dentro do lote: nenhum lote fica contado duas vezes (no banco lido e de
+ * novo na janela) nem se perde na limpeza.
+ */
+@Component
+public class JanelaDeslizanteInicializador {
+
+    private final JanelaDeslizanteService janelas;
+    private final EngajamentoIngestaoService ingestao;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JanelaDeslizanteInicializador(JanelaDeslizanteService janelas, EngajamentoIngestaoService ingestao,
+                                         JdbcTemplate jdbcTemplate) {
+        this.janelas = janelas;
+        this.ingestao = ingestao;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        ingestao.entreLotes(() -> {
+            janelas.limpar();
+            jdbcTemplate.query(
+                "SELECT usuario_id, inicio_periodo, pontos FROM pontuacoes_periodo "
+                    + "WHERE periodo = 'DIARIO' AND inicio_periodo > ?",
+                rs -> {
+                    janelas.registrar(rs.getLong(1), rs.getObject(2, LocalDate.class), rs.getInt(3));
+                },
+                LocalDate.now().minusDays(30));
+            return null;
+        });
+    }
+}
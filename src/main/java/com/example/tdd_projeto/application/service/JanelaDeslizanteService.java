@@ -0,0 +1,175 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.service.PlacarRanking.Entrada;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pontuação por janela deslizante (últimos 1, 7 ou 30 dias) mantida em memória.
+ *
+ * Cada usuário tem um buffer circular de baldes diários (int[32]) e as somas das
+ * janelas de 7 e 30 dias mantidas incrementalmente. Quando o dia vira, a janela do
+ * usuário avança sob demanda (na próxima escrita ou leitura): os baldes que saem das
+ * janelas são subtraídos das somas e reaproveitados. Ler uma janela é O(1).
+ */
+@Service
+public class JanelaDeslizanteService {
+
+    static final int DIAS = 32; // potência de 2 maior que a maior janela
+    private static final int MASCARA = DIAS - 1;
+
+    private final Map<Long, Janela> janelas = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public JanelaDeslizanteService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public JanelaDeslizanteService(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Soma pontos ao dia informado. Dias fora da janela de 30 dias são ignorados.
+     */
+    public void registrar(Long usuarioId, LocalDate dia, int pontos) {
+        long hoje = hoje();
+        long epochDay = dia.toEpochDay();
+        if (epochDay > hoje || epochDay <= hoje - 30) {
+            return;
+        }
+        Janela janela = janelas.computeIfAbsent(usuarioId, id -> new Janela(hoje));
+        synchronized (janela) {
+            janela.avancar(hoje);
+            janela.somar(epochDay, pontos);
+        }
+    }
+
+    /**
+     * Pontos do usuário nos últimos {@code dias} dias, incluindo hoje (1, 7 ou 30)
+     */
+    public int pontos(Long usuarioId, int dias) {
+        validarJanela(dias);
+        Janela janela = janelas.get(usuarioId);
+        if (janela == null) {
+            return 0;
+        }
+        long hoje = hoje();
+        synchronized (janela) {
+            janela.avancar(hoje);
+            return janela.soma(dias);
+        }
+    }
+
+    /**
+     * Os {@code k} usuários com mais pontos na janela, do maior para o menor (empate: menor id)
+     */
+    public List<Entrada> top(int dias, int k) {
+        validarJanela(dias);
+        if (k <= 0) {
+            return List.of();
+        }
+        Comparator<Entrada> ordem = Comparator.comparingInt(Entrada::getPontuacao).reversed()
+                .thenComparing(Entrada::getUsuarioId);
+        // Heap com o pior dos k melhores no topo
+        PriorityQueue<Entrada> melhores = new PriorityQueue<>(k + 1, ordem.reversed());
+        long hoje = hoje();
+        janelas.forEach((usuarioId, janela) -> {
+            int soma;
+            synchronized (janela) {
+                janela.avancar(hoje);
+                soma = janela.soma(dias);
+            }
+            if (soma <= 0) {
+                return;
+            }
+            if (melhores.size() < k) {
+                melhores.add(new Entrada(usuarioId, soma));
+            } else if (soma > melhores.peek().getPontuacao()
+                    || (soma == melhores.peek().getPontuacao() && usuarioId < melhores.peek().getUsuarioId())) {
+                melhores.poll();
+                melhores.add(new Entrada(usuarioId, soma));
+            }
+        });
+        List<Entrada> resultado = new ArrayList<>(melhores);
+        resultado.sort(ordem);
+        return resultado;
+    }
+
+    public void limpar() {
+        janelas.clear();
+    }
+
+    public int tamanho() {
+        return janelas.size();
+    }
+
+    private long hoje() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private static void validarJanela(int dias) {
+        if (dias != 1 && dias != 7 && dias != 30) {
+            throw new IllegalArgumentException("Janela deve ser de 1, 7 ou 30 dias");
+        }
+    }
+
+    /**
+     * Baldes diários de um usuário; acessada sempre com o monitor da própria instância
+     */
+    private static final class Janela {
+        private final int[] baldes = new int[DIAS];
+        private long ultimoDia;
+        private int soma7;
+        private int soma30;
+
+        Janela(long dia) {
+            this.ultimoDia = dia;
+        }
+
+        void avancar(long hoje) {
+            if (hoje <= ultimoDia) {
+                return;
+            }
+            if (hoje - ultimoDia >= 30) {
+                // Todos os baldes já saíram da maior janela
+                Arrays.fill(baldes, 0);
+                soma7 = 0;
+                soma30 = 0;
+                ultimoDia = hoje;
+                return;
+            }
+            for (long dia = ultimoDia + 1; dia <= hoje; dia++) {
+                soma7 -= baldes[(int) ((dia - 7) & MASCARA)];
+                soma30 -= baldes[(int) ((dia - 30) & MASCARA)];
+                baldes[(int) (dia & MASCARA)] = 0;
+            }
+            ultimoDia = hoje;
+        }
+
+        void somar(long dia, int pontos) {
+            baldes[(int) (dia & MASCARA)] += pontos;
+            soma30 += pontos;
+            if (dia > ultimoDia - 7) {
+                soma7 += pontos;
+            }
+        }
+
+        int soma(int dias) {
+            return switch (dias) {
+                case 1 -> baldes[(int) (ultimoDia & MASCARA)];
+                case 7 -> soma7;
+                default -> soma30;
+            };
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.tdd_projeto.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Placar do ranking mantido em memória.
+ *
+ * Estrutura de estatística de ordem (skip list indexável) ordenada por
+ * pontuação decrescente e, em caso de empate, por id do usuário crescente.
+ * Cada ligação guarda quantos nós ela "pula", o que permite calcular a
+ * posição de um usuário, listar o top-K e atualizar pontuações em O(log n),
+ * sem ordenar a tabela de usuários a cada consulta.
+ */
+@Component
+public class PlacarRanking {
+
+    private static final int NIVEL_MAXIMO = 32;
+    private static final int PROBABILIDADE_INVERSA = 4; // p = 1/4
+
+    private final No cabeca = new No(Long.MIN_VALUE, Integer.MAX_VALUE, NIVEL_MAXIMO);
+    private final Map<Long, Integer> pontuacoes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nivel = 1;
+    private int tamanho;
+
+    /**
+     * Define a pontuação de um usuário (insere se ainda não estiver no placar)
+     */
+    public void atualizar(Long usuarioId, int pontuacao) {
+        lock.writeLock().lock();
+        try {
+            Integer atual = pontuacoes.get(usuarioId);
+            if (atual != null) {
+                if (atual == pontuacao) {
+                    return;
+                }
+                removerNo(usuarioId, atual);
+            }
+            inserirNo(usuarioId, pontuacao);
+            pontuacoes.put(usuarioId, pontuacao);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Soma pontos à pontuação atual do usuário (começa em zero se ausente)
+     */
+    public void adicionarPontos(Long usuarioId, int pontos) {
+        lock.writeLock().lock();
+        try {
+            Integer atual = pontuacoes.get(usuarioId);
+            int nova = (atual == null ? 0 : atual) + pontos;
+            if (atual != null) {
+                removerNo(usuarioId, atual);
+            }
+            inserirNo(usuarioId, nova);
+            pontuacoes.put(usuarioId, nova);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove o usuário do placar
+     */
+    public void remover(Long usuarioId) {
+        lock.writeLock().lock();
+        try {
+            Integer atual = pontuacoes.remove(usuarioId);
+            if (atual != null) {
+                removerNo(usuarioId, atual);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Esvazia o placar
+     */
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < NIVEL_MAXIMO; i++) {
+                cabeca.proximo[i] = null;
+                cabeca.largura[i] = 0;
+            }
+            pontuacoes.clear();
+            nivel = 1;
+            tamanho = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna a pontuação do usuário ou null se ele não estiver no placar
+     */
+    public Integer pontuacao(Long usuarioId) {
+        lock.readLock().lock();
+        try {
+            return pontuacoes.get(usuarioId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posição do usuário no ranking (1 = primeiro, empates dividem a posição).
+     * Retorna 0 se o usuário não estiver no placar.
+     */
+    public int posicao(Long usuarioId) {
+        lock.readLock().lock();
+        try {
+            Integer atual = pontuacoes.get(usuarioId);
+            return atual == null ? 0 : contarMaiores(atual) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Quantos usuários têm pontuação estritamente maior que o valor informado
+     */
+    public int contarAcima(int pontuacao) {
+        lock.readLock().lock();
+        try {
+            return contarMaiores(pontuacao);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lista os K primeiros colocados
+     */
+    public List<Entrada> top(int k) {
+        return listar(1, k);
+    }
+
+    /**
+     * Lista até {@code quantidade} entradas a partir da posição ordinal informada (1 = primeiro)
+     */
+    public List<Entrada> listar(int posicaoInicial, int quantidade) {
+        if (posicaoInicial < 1 || quantidade < 0) {
+            throw new IllegalArgumentException("Posição inicial deve ser >= 1 e quantidade >= 0");
+        }
+        lock.readLock().lock();
+        try {
+            List<Entrada> resultado = new ArrayList<>(Math.min(quantidade, Math.max(tamanho - posicaoInicial + 1, 0)));
+            No x = noNaPosicao(posicaoInicial);
+            while (x != null && resultado.size() < quantidade) {
+                resultado.add(new Entrada(x.usuarioId, x.pontuacao));
+                x = x.proximo[0];
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copia todas as pontuações do placar (usado para checkpoints)
+     */
+    public Map<Long, Integer> copiarPontuacoes() {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(pontuacoes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Substitui o conteúdo do placar pelas entradas informadas, que devem estar na
+     * ordem do ranking (pontuação decrescente, id crescente) e sem ids repetidos.
+     * Os nós são encadeados pelo fim de cada nível, em O(n), sem as buscas de
+     * {@link #atualizar}.
+     */
+    public void restaurar(long[] usuarioIds, int[] pontuacoes, int quantidade) {
+        for (int i = 1; i < quantidade; i++) {
+            if (pontuacoes[i - 1] < pontuacoes[i]
+                    || (pontuacoes[i - 1] == pontuacoes[i] && usuarioIds[i - 1] >= usuarioIds[i])) {
+                throw new IllegalArgumentException("Entradas fora da ordem do ranking na posição " + (i + 1));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            limpar();
+            No[] ultimos = new No[NIVEL_MAXIMO];
+            int[] posicoes = new int[NIVEL_MAXIMO];
+            Arrays.fill(ultimos, cabeca);
+            for (int i = 0; i < quantidade; i++) {
+                int posicao = i + 1;
+                int novoNivel = nivelAleatorio();
+                nivel = Math.max(nivel, novoNivel);
+                No novo = new No(usuarioIds[i], pontuacoes[i], novoNivel);
+                for (int n = 0; n < novoNivel; n++) {
+                    ultimos[n].proximo[n] = novo;
+                    ultimos[n].largura[n] = posicao - posicoes[n];
+                    ultimos[n] = novo;
+                    posicoes[n] = posicao;
+                }
+                if (this.pontuacoes.put(usuarioIds[i], pontuacoes[i]) != null) {
+                    limpar();
+                    throw new IllegalArgumentException("Usuário repetido: " + usuarioIds[i]);
+                }
+            }
+            tamanho = quantidade;
+            // Ligações que terminam a lista contam os nós restantes até o fim
+            for (int n = 0; n < NIVEL_MAXIMO; n++) {
+                ultimos[n].largura[n] = tamanho - posicoes[n];
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return tamanho;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Operações internas da skip list (chamadas com o lock adquirido)
+
+    private static boolean antes(No no, long usuarioId, int pontuacao) {
+        return no.pontuacao > pontuacao || (no.pontuacao == pontuacao && no.usuarioId < usuarioId);
+    }
+
+    private int contarMaiores(int pontuacao) {
+        int contador = 0;
+        No x = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.proximo[i] != null && x.proximo[i].pontuacao > pontuacao) {
+                contador += x.largura[i];
+                x = x.proximo[i];
+            }
+        }
+        return contador;
+    }
+
+    private No noNaPosicao(int posicao) {
+        if (posicao > tamanho) {
+            return null;
+        }
+        int percorrido = 0;
+        No x = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.proximo[i] != null && percorrido + x.largura[i] <= posicao) {
+                percorrido += x.largura[i];
+                x = x.proximo[i];
+            }
+            if (percorrido == posicao) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private void inserirNo(long usuarioId, int pontuacao) {
+        No[] anteriores = new No[NIVEL_MAXIMO];
+        int[] posicoes = new int[NIVEL_MAXIMO];
+        No x = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            posicoes[i] = i == nivel - 1 ? 0 : posicoes[i + 1];
+            while (x.proximo[i] != null && antes(x.proximo[i], usuarioId, pontuacao)) {
+                posicoes[i] += x.largura[i];
+                x = x.proximo[i];
+            }
+            anteriores[i] = x;
+        }
+
+        int novoNivel = nivelAleatorio();
+        if (novoNivel > nivel) {
+            for (int i = nivel; i < novoNivel; i++) {
+                posicoes[i] = 0;
+                anteriores[i] = cabeca;
+                cabeca.largura[i] = tamanho;
+            }
+            nivel = novoNivel;
+        }
+
+        No novo = new No(usuarioId, pontuacao, novoNivel);
+        for (int i = 0; i < novoNivel; i++) {
+            novo.proximo[i] = anteriores[i].proximo[i];
+            anteriores[i].proximo[i] = novo;
+            novo.largura[i] = anteriores[i].largura[i] - (posicoes[0] - posicoes[i]);
+            anteriores[i].largura[i] = (posicoes[0] - posicoes[i]) + 1;
+        }
+        for (int i = novoNivel; i < nivel; i++) {
+            anteriores[i].largura[i]++;
+        }
+        tamanho++;
+    }
+
+    private void removerNo(long usuarioId, int pontuacao) {
+        No[] anteriores = new No[NIVEL_MAXIMO];
+        No x = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (x.proximo[i] != null && antes(x.proximo[i], usuarioId, pontuacao)) {
+                x = x.proximo[i];
+            }
+            anteriores[i] = x;
+        }
+        No alvo = x.proximo[0];
+        if (alvo == null || alvo.usuarioId != usuarioId) {
+            return;
+        }
+        for (int i = 0; i < nivel; i++) {
+            if (anteriores[i].proximo[i] == alvo) {
+                anteriores[i].largura[i] += alvo.largura[i] - 1;
+                anteriores[i].proximo[i] = alvo.proximo[i];
+            } else {
+                anteriores[i].largura[i]--;
+            }
+        }
+        while (nivel > 1 && cabeca.proximo[nivel - 1] == null) {
+            nivel--;
+        }
+        tamanho--;
+    }
+
+    private static int nivelAleatorio() {
+        int novoNivel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (novoNivel < NIVEL_MAXIMO && random.nextInt(PROBABILIDADE_INVERSA) == 0) {
+            novoNivel++;
+        }
+        return novoNivel;
+    }
+
+    private static final class No {
+        private final long usuarioId;
+        private final int pontuacao;
+        private final No[] proximo;
+        private final int[] largura; // quantos nós a ligação de cada nível pula
+
+        private No(long usuarioId, int pontuacao, int niveis) {
+            this.usuarioId = usuarioId;
+            this.pontuacao = pontuacao;
+            this.proximo = new No[niveis];
+            this.largura = new int[niveis];
+        }
+    }
+
+    /**
+     * Par (usuário, pontuação) retornado nas listagens do placar
+     */
+    public static final class Entrada {
+        private final Long usuarioId;
+        private final int pontuacao;
+
+        public Entrada(Long usuarioId, int pontuacao) {
+            this.usuarioId = usuarioId;
+            this.pontuacao = pontuacao;
+        }
+
+        public Long getUsuarioId() { return usuarioId; }
+        public int getPontuacao() { return pontuacao; }
+    }
+}
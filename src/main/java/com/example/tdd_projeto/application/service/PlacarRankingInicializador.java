@@ -0,0 +1,50 @@
+package com.example.tdd_projeto.application.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Carrega o placar em memória com a pontuação dos usuários ativos quando a aplicação sobe.
+ * Lê linha a linha (id, pontuação), sem materializar as entidades. Com o checkpoint
+ * habilitado, tenta antes restaurar o placar do arquivo e só lê a tabela se ele não servir.
+ * A carga roda entre dois lotes da ingestão, que já está recebendo engajamentos: um lote
+ * aplicado ao placar durante a leitura da tabela seria perdido ou somado duas vezes.
+ */
+@Component
+public class PlacarRankingInicializador {
+
+    private final PlacarRanking placar;
+    private final JdbcTemplate jdbcTemplate;
+    private final Optional<CheckpointPlacar> checkpoint;
+    private final EngajamentoIngestaoService ingestao;
+
+    public PlacarRankingInicializador(PlacarRanking placar, JdbcTemplate jdbcTemplate,
+                                      Optional<CheckpointPlacar> checkpoint,
+                                      EngajamentoIngestaoService ingestao) {
+        this.placar = placar;
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpoint = checkpoint;
+        this.ingestao = ingestao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        ingestao.entreLotes(() -> {
+            if (checkpoint.map(CheckpointPlacar::restaurar).orElse(false)) {
+                return null;
+            }
+            placar.limpar();
+            jdbcTemplate.query(
+                "SELECT id, pontuacao_total FROM usuarios WHERE ativo = TRUE",
+                rs -> {
+                    placar.atualizar(rs.getLong(1), rs.getInt(2));
+                });
+            checkpoint.ifPresent(CheckpointPlacar::placarCarregado);
+            return null;
+        });
+    }
+}
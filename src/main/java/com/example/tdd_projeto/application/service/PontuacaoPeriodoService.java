@@ -0,0 +1,208 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantém a tabela pontuacoes_periodo: um agregado de pontos por usuário e
+ * período (dia, semana ISO, mês, ano e geral), atualizado na mesma transação
+ * que grava os engajamentos. Consultas de ranking e de pontos leem o agregado
+ * em vez de somar as linhas de engajamentos.
+ *
+ * Cada agregado é somado com um único MERGE (soma no existente ou cria com o delta).
+ * Antes, as linhas dos usuários envolvidos são bloqueadas em ordem de id: duas
+ * transações que criam o mesmo agregado ao mesmo tempo ficam em fila, e a segunda
+ * já encontra a linha criada pela primeira em vez de violar a chave única.
+ */
+@Service
+public class PontuacaoPeriodoService {
+
+    private static final String SQL_SOMAR = """
+        MERGE INTO pontuacoes_periodo p
+        USING (VALUES (CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS VARCHAR(20)), CAST(? AS DATE)))
+            AS d (pontos, usuario_id, periodo, inicio_periodo)
+        ON p.usuario_id = d.usuario_id AND p.periodo = d.periodo AND p.inicio_periodo = d.inicio_periodo
+        WHEN MATCHED THEN UPDATE SET pontos = p.pontos + d.pontos
+        WHEN NOT MATCHED THEN INSERT (pontos, usuario_id, periodo, inicio_periodo)
+            VALUES (d.pontos, d.usuario_id, d.periodo, d.inicio_periodo)
+        """;
+
+    private static final String SQL_TRAVAR_USUARIOS = "SELECT id FROM usuarios WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private static final String SQL_INSERIR =
+        "INSERT INTO pontuacoes_periodo (pontos, usuario_id, periodo, inicio_periodo) VALUES (?, ?, ?, ?)";
+
+    private static final String SQL_SOMAS_DIARIAS = """
+        SELECT usuario_id, CAST(data_engajamento AS DATE) AS dia, SUM(pontos) AS pontos
+        FROM engajamentos
+        GROUP BY usuario_id, CAST(data_engajamento AS DATE)
+        ORDER BY usuario_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PontuacaoPeriodoRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    // A ingestão depende deste serviço (pelo gravador): buscada só na reconstrução
+    private final ObjectProvider<EngajamentoIngestaoService> ingestao;
+
+    public PontuacaoPeriodoService(JdbcTemplate jdbcTemplate, PontuacaoPeriodoRepository repository,
+                                   TransactionTemplate transactionTemplate,
+                                   ObjectProvider<EngajamentoIngestaoService> ingestao) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.ingestao = ingestao;
+    }
+
+    /**
+     * Soma os pontos do lote nos agregados de todos os períodos.
+     * Deve ser chamado dentro da transação que insere os engajamentos.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarLote(List<EngajamentoDTO> lote) {
+        Map<Chave, Integer> deltas = new TreeMap<>();
+        for (EngajamentoDTO engajamento : lote) {
+            LocalDate dia = engajamento.getDataEngajamento().toLocalDate();
+            acumular(deltas, engajamento.getUsuarioId(), dia, engajamento.getPontos());
+        }
+        aplicar(deltas);
+    }
+
+    /**
+     * Soma (ou subtrai, com valor negativo) pontos de um único engajamento nos agregados
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Long usuarioId, LocalDate dia, int pontos) {
+        Map<Chave, Integer> deltas = new TreeMap<>();
+        acumular(deltas, usuarioId, dia, pontos);
+        aplicar(deltas);
+    }
+
+    /**
+     * Pontos do usuário no período que contém a data (0 se não houver engajamentos)
+     */
+    @Transactional(readOnly = true)
+    public int pontos(Long usuarioId, PeriodoRanking periodo, LocalDate data) {
+        return repository.findPontos(usuarioId, periodo, periodo.inicioPeriodo(data)).orElse(0);
+    }
+
+    /**
+     * Reconstrói todos os agregados a partir da tabela engajamentos (rotina de reparo).
+     * Lê somas diárias por usuário em ordem e grava os períodos de um usuário por vez,
+     * então a memória usada não depende do tamanho da tabela. Roda entre dois lotes da
+     * ingestão, com o commit dentro da espera, para não misturar um lote às somas lidas.
+     */
+    public void reconstruir() {
+        entreLotes(() -> {
+            jdbcTemplate.update("DELETE FROM pontuacoes_periodo");
+
+            Map<Chave, Integer> agregados = new HashMap<>();
+            long[] usuarioAtual = {Long.MIN_VALUE};
+            jdbcTemplate.query(SQL_SOMAS_DIARIAS, rs -> {
+                long usuarioId = rs.getLong("usuario_id");
+                if (usuarioId != usuarioAtual[0] && !agregados.isEmpty()) {
+                    inserir(agregados);
+                    agregados.clear();
+                }
+                usuarioAtual[0] = usuarioId;
+                acumular(agregados, usuarioId, rs.getDate("dia").toLocalDate(), rs.getInt("pontos"));
+            });
+            if (!agregados.isEmpty()) {
+                inserir(agregados);
+            }
+        });
+    }
+
+    /**
+     * Substitui todos os agregados pelas somas diárias informadas (usuário → dia → pontos),
+     * calculadas fora do banco — por exemplo, a partir do log de engajamentos. Roda
+     * entre dois lotes da ingestão, como {@link #reconstruir()}.
+     */
+    public void reconstruir(Map<Long, Map<LocalDate, Integer>> somasDiarias) {
+        entreLotes(() -> {
+            jdbcTemplate.update("DELETE FROM pontuacoes_periodo");
+
+            Map<Chave, Integer> agregados = new HashMap<>();
+            somasDiarias.forEach((usuarioId, dias) -> {
+                dias.forEach((dia, pontos) -> {
+                    // Dia cujos engajamentos foram todos removidos: a tabela não teria agregado
+                    if (pontos != 0) {
+                        acumular(agregados, usuarioId, dia, pontos);
+                    }
+                });
+                if (!agregados.isEmpty()) {
+                    inserir(agregados);
+                    agregados.clear();
+                }
+            });
+        });
+    }
+
+    private void entreLotes(Runnable reconstrucao) {
+        EngajamentoIngestaoService ingestaoAtiva = ingestao.getIfAvailable();
+        if (ingestaoAtiva == null) {
+            // Contexto sem ingestão (ex.: testes de repositório): nenhum lote concorrente
+            transactionTemplate.executeWithoutResult(status -> reconstrucao.run());
+            return;
+        }
+        ingestaoAtiva.entreLotes(() -> {
+            transactionTemplate.executeWithoutResult(status -> reconstrucao.run());
+            return null;
+        });
+    }
+
+    private static void acumular(Map<Chave, Integer> deltas, Long usuarioId, LocalDate dia, int pontos) {
+        for (PeriodoRanking periodo : PeriodoRanking.values()) {
+            deltas.merge(new Chave(usuarioId, periodo, periodo.inicioPeriodo(dia)), pontos, Integer::sum);
+        }
+    }
+
+    private void aplicar(Map<Chave, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Object[] usuarioIds = deltas.keySet().stream().map(Chave::usuarioId).distinct().toArray();
+        jdbcTemplate.queryForList(SQL_TRAVAR_USUARIOS.formatted(
+                String.join(",", Collections.nCopies(usuarioIds.length, "?"))), Long.class, usuarioIds);
+        jdbcTemplate.batchUpdate(SQL_SOMAR, parametros(deltas));
+    }
+
+    private void inserir(Map<Chave, Integer> agregados) {
+        jdbcTemplate.batchUpdate(SQL_INSERIR, parametros(agregados));
+    }
+
+    private static List<Object[]> parametros(Map<Chave, Integer> deltas) {
+        List<Object[]> parametros = new ArrayList<>(deltas.size());
+        deltas.forEach((chave, pontos) -> parametros.add(new Object[] {
+            pontos, chave.usuarioId(), chave.periodo().name(), Date.valueOf(chave.inicio())
+        }));
+        return parametros;
+    }
+
+    private record Chave(Long usuarioId, PeriodoRanking periodo, LocalDate inicio) implements Comparable<Chave> {
+        @Override
+        public int compareTo(Chave outra) {
+            int comparacao = usuarioId.compareTo(outra.usuarioId);
+            if (comparacao == 0) {
+                comparacao = periodo.compareTo(outra.periodo);
+            }
+            return comparacao != 0 ? comparacao : inicio.compareTo(outra.inicio);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.PontuacaoAlteradaEvent;
+import com.example.tdd_projeto.application.event.SnapshotRankingGeradoEvent;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.repository.RankingRepository;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Leituras do ranking com cache em memória.
+ *
+ * As consultas projetam direto em RankingDTO (uma junção com usuarios, sem
+ * entidades gerenciadas), então uma página custa uma única consulta.
+ * Páginas do snapshot são guardadas por (período, data de referência, página) e a
+ * posição de cada usuário por (usuário, período, data de referência). Os caches são
+ * limitados em tamanho (W-TinyLFU do Caffeine) e expiram por TTL; além disso são
+ * invalidados de forma pontual quando um snapshot é regravado ou quando novos
+ * engajamentos alteram a pontuação de um usuário.
+ *
+ * Para essa invalidação não varrer o cache de posições, as chaves em cache são
+ * indexadas por usuário. O índice só muda dentro da operação do Caffeine sobre a
+ * chave (carga, remoção ou despejo), então uma carga concorrente nunca fica fora dele.
+ */
+@Service
+public class RankingConsultaService {
+
+    private final RankingRepository rankingRepository;
+    private final PontuacaoPeriodoService pontuacaoPeriodoService;
+    private final int tamanhoPagina;
+    private final Cache<ChavePagina, List<RankingDTO>> paginas;
+    private final Cache<ChaveUsuario, Optional<RankingDTO>> usuarios;
+    private final Map<Long, Set<ChaveUsuario>> chavesPorUsuario = new ConcurrentHashMap<>();
+    private final Cache<ChaveSnapshot, Optional<LocalDateTime>> versoes;
+    private final Cache<PeriodoRanking, Optional<LocalDate>> ultimasDatas;
+    private final TransactionTemplate leituraConsistente;
+
+    public RankingConsultaService(
+            RankingRepository rankingRepository,
+            PontuacaoPeriodoService pontuacaoPeriodoService,
+            MeterRegistry registry,
+            PlatformTransactionManager transactionManager,
+            @Value("${ranking.cache.tamanho-pagina:50}") int tamanhoPagina,
+            @Value("${ranking.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${ranking.cache.ttl-segundos:300}") long ttlSegundos) {
+        if (tamanhoPagina <= 0 || tamanhoMaximo <= 0 || ttlSegundos <= 0) {
+            throw new IllegalArgumentException("Configuração do cache de ranking inválida");
+        }
+        this.rankingRepository = rankingRepository;
+        this.pontuacaoPeriodoService = pontuacaoPeriodoService;
+        this.tamanhoPagina = tamanhoPagina;
+        this.paginas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        this.usuarios = Caffeine.newBuilder()
+                .evictionListener((ChaveUsuario chave, Optional<RankingDTO> dto, RemovalCause causa) ->
+                        desindexar(chave))
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        this.versoes = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .build();
+        this.ultimasDatas = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .build();
+        this.leituraConsistente = new TransactionTemplate(transactionManager);
+        leituraConsistente.setReadOnly(true);
+        leituraConsistente.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        CaffeineCacheMetrics.monitor(registry, paginas, "ranking.paginas");
+        CaffeineCacheMetrics.monitor(registry, usuarios, "ranking.usuarios");
+    }
+
+    /**
+     * Página do snapshot (a primeira página é 0) ordenada por posição
+     */
+    public List<RankingDTO> listar(PeriodoRanking periodo, LocalDate dataReferencia, int pagina) {
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        return paginas.get(new ChavePagina(periodo, dataReferencia, pagina), chave ->
+                rankingRepository.findDTOsByPeriodoAndDataReferencia(
+                        periodo, dataReferencia, PageRequest.of(pagina, tamanhoPagina)));
+    }
+
+    /**
+     * Posição do usuário no snapshot, com os pontos atuais do período.
+     * A posição só muda quando o snapshot é regravado; os pontos acompanham
+     * cada engajamento gravado.
+     */
+    public Optional<RankingDTO> buscarDoUsuario(Long usuarioId, PeriodoRanking periodo, LocalDate dataReferencia) {
+        return usuarios.get(new ChaveUsuario(usuarioId, periodo, dataReferencia), chave -> {
+            // Indexada antes da leitura: uma alteração publicada depois dela descarta esta carga
+            indexar(chave);
+            return rankingRepository.findDTOByUsuarioIdAndPeriodoAndDataReferencia(usuarioId, periodo, dataReferencia)
+                    .map(dto -> {
+                        dto.setPontuacao(pontuacaoPeriodoService.pontos(usuarioId, periodo, dataReferencia));
+                        return dto;
+                    });
+        });
+    }
+
+    /**
+     * Percorre o snapshot inteiro em páginas por chave (posição, id), sem passar pelo cache.
+     * Cada página é entregue ao consumidor antes da próxima ser lida, então a memória
+     * usada não depende do tamanho do ranking. Todas as páginas são lidas em uma só
+     * transação somente leitura (repeatable read): um snapshot regravado durante o
+     * percurso não mistura linhas das duas versões.
+     */
+    public void percorrer(PeriodoRanking periodo, LocalDate dataReferencia, Consumer<List<RankingDTO>> consumidor) {
+        leituraConsistente.executeWithoutResult(status -> {
+            List<RankingDTO> pagina = rankingRepository.findDTOsByPeriodoAndDataReferencia(
+                    periodo, dataReferencia, PageRequest.of(0, tamanhoPagina));
+            while (!pagina.isEmpty()) {
+                consumidor.accept(pagina);
+                if (pagina.size() < tamanhoPagina) {
+                    return;
+                }
+                RankingDTO ultimo = pagina.get(pagina.size() - 1);
+                pagina = rankingRepository.findDTOsByPeriodoAndDataReferenciaApos(
+                        periodo, dataReferencia, ultimo.getPosicao(), ultimo.getId(), Limit.of(tamanhoPagina));
+            }
+        });
+    }
+
+    /**
+     * Data de referência do snapshot mais recente do período
+     */
+    public Optional<LocalDate> ultimaDataReferencia(PeriodoRanking periodo) {
+        return ultimasDatas.get(periodo, rankingRepository::findUltimaDataReferencia);
+    }
+
+    /**
+     * Momento em que o snapshot foi calculado; vazio se o snapshot não existir
+     */
+    public Optional<LocalDateTime> dataCalculo(PeriodoRanking periodo, LocalDate dataReferencia) {
+        return versoes.get(new ChaveSnapshot(periodo, dataReferencia),
+                chave -> rankingRepository.findDataCalculo(periodo, dataReferencia));
+    }
+
+    public int getTamanhoPagina() {
+        return tamanhoPagina;
+    }
+
+    /**
+     * Snapshot regravado: descarta páginas e posições daquele período e data.
+     * Executado só depois do commit, para que a próxima leitura veja o snapshot novo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoGerarSnapshot(SnapshotRankingGeradoEvent evento) {
+        PeriodoRanking periodo = evento.getPeriodo();
+        LocalDate data = evento.getDataReferencia();
+        paginas.asMap().keySet().removeIf(c -> c.periodo() == periodo && c.dataReferencia().equals(data));
+        for (Set<ChaveUsuario> chaves : chavesPorUsuario.values()) {
+            for (ChaveUsuario chave : List.copyOf(chaves)) {
+                if (chave.periodo() == periodo && chave.dataReferencia().equals(data)) {
+                    descartar(chave);
+                }
+            }
+        }
+        versoes.invalidate(new ChaveSnapshot(periodo, data));
+        ultimasDatas.invalidate(periodo);
+    }
+
+    /**
+     * Pontos de alguns usuários mudaram: descarta apenas as entradas desses usuários
+     */
+    @EventListener
+    public void aoAlterarPontuacao(PontuacaoAlteradaEvent evento) {
+        for (Long usuarioId : evento.getUsuarioIds()) {
+            Set<ChaveUsuario> chaves = chavesPorUsuario.get(usuarioId);
+            if (chaves != null) {
+                for (ChaveUsuario chave : List.copyOf(chaves)) {
+                    descartar(chave);
+                }
+            }
+        }
+    }
+
+    /**
+     * Descarta todo o conteúdo dos caches
+     */
+    public void limpar() {
+        paginas.invalidateAll();
+        usuarios.invalidateAll();
+        chavesPorUsuario.clear();
+        versoes.invalidateAll();
+        ultimasDatas.invalidateAll();
+    }
+
+    /**
+     * Remove a posição em cache e a sua entrada no índice na mesma operação
+     */
+    private void descartar(ChaveUsuario chave) {
+        usuarios.asMap().compute(chave, (c, dto) -> {
+            desindexar(c);
+            return null;
+        });
+    }
+
+    private void indexar(ChaveUsuario chave) {
+        chavesPorUsuario.compute(chave.usuarioId(), (id, chaves) -> {
+            Set<ChaveUsuario> indice = chaves != null ? chaves : ConcurrentHashMap.newKeySet();
+            indice.add(chave);
+            return indice;
+        });
+    }
+
+    private void desindexar(ChaveUsuario chave) {
+        chavesPorUsuario.computeIfPresent(chave.usuarioId(), (id, chaves) -> {
+            chaves.remove(chave);
+            return chaves.isEmpty() ? null : chaves;
+        });
+    }
+
+    private record ChavePagina(PeriodoRanking periodo, LocalDate dataReferencia, int pagina) {
+    }
+
+    private record ChaveSnapshot(PeriodoRanking periodo, LocalDate dataReferencia) {
+    }
+
+    private record ChaveUsuario(Long usuarioId, PeriodoRanking periodo, LocalDate dataReferencia) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.repository.RankingRepository;
+import com.example.tdd_projeto.shared.dto.RankingExportacaoDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exporta um snapshot inteiro do ranking em CSV ou NDJSON.
+ *
+ * As linhas são lidas em páginas por chave (posição, id) já projetadas em
+ * RankingExportacaoDTO e escritas na saída antes da próxima página ser lida,
+ * então a memória usada depende do tamanho da página e não do ranking.
+ */
+@Service
+public class RankingExportacaoService {
+
+    private static final String CABECALHO_CSV = "posicao,pontuacao,variacao_posicao,usuario_id,usuario_nome,usuario_email\n";
+    private static final int BUFFER = 64 * 1024;
+
+    private final RankingRepository rankingRepository;
+    private final JsonFactory jsonFactory;
+    private final int tamanhoPagina;
+
+    public RankingExportacaoService(
+            RankingRepository rankingRepository,
+            ObjectMapper objectMapper,
+            @Value("${ranking.exportacao.tamanho-pagina:1000}") int tamanhoPagina) {
+        if (tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Tamanho da página de exportação inválido");
+        }
+        this.rankingRepository = rankingRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.tamanhoPagina = tamanhoPagina;
+    }
+
+    /**
+     * Escreve o snapshot na saída (que não é fechada) e retorna quantas linhas foram exportadas
+     */
+    public long exportar(PeriodoRanking periodo, LocalDate dataReferencia, Formato formato, boolean gzip,
+                         OutputStream saida) throws IOException {
+        OutputStream destino = new NaoFecha(saida);
+        if (gzip) {
+            destino = new GZIPOutputStream(destino, BUFFER);
+        } else {
+            destino = new BufferedOutputStream(destino, BUFFER);
+        }
+        try (Writer escritor = new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), BUFFER)) {
+            return formato == Formato.CSV
+                    ? escreverCsv(periodo, dataReferencia, escritor)
+                    : escreverNdjson(periodo, dataReferencia, escritor);
+        }
+    }
+
+    /**
+     * Escreve o snapshot em um arquivo (substituindo-o) e retorna quantas linhas foram exportadas
+     */
+    public long exportar(PeriodoRanking periodo, LocalDate dataReferencia, Formato formato, boolean gzip,
+                         Path arquivo) throws IOException {
+        try (OutputStream saida = Files.newOutputStream(arquivo)) {
+            return exportar(periodo, dataReferencia, formato, gzip, saida);
+        }
+    }
+
+    private long escreverCsv(PeriodoRanking periodo, LocalDate dataReferencia, Writer escritor) throws IOException {
+        escritor.write(CABECALHO_CSV);
+        return percorrer(periodo, dataReferencia, linhas -> {
+            for (RankingExportacaoDTO linha : linhas) {
+                escritor.write(Integer.toString(linha.getPosicao()));
+                escritor.write(',');
+                escritor.write(Integer.toString(linha.getPontuacao()));
+                escritor.write(',');
+                if (linha.getVariacaoPosicao() != null) {
+                    escritor.write(Integer.toString(linha.getVariacaoPosicao()));
+                }
+                escritor.write(',');
+                escritor.write(Long.toString(linha.getUsuarioId()));
+                escritor.write(',');
+                escreverCampoCsv(escritor, linha.getUsuarioNome());
+                escritor.write(',');
+                escreverCampoCsv(escritor, linha.getUsuarioEmail());
+                escritor.write('\n');
+            }
+            escritor.flush();
+        });
+    }
+
+    private long escreverNdjson(PeriodoRanking periodo, LocalDate dataReferencia, Writer escritor) throws IOException {
+        try (JsonGenerator gerador = jsonFactory.createGenerator(escritor)) {
+            gerador.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            gerador.setRootValueSeparator(null); // uma linha por objeto, sem o espaço padrão
+            return percorrer(periodo, dataReferencia, linhas -> {
+                for (RankingExportacaoDTO linha : linhas) {
+                    gerador.writeStartObject();
+                    gerador.writeNumberField("posicao", linha.getPosicao());
+                    gerador.writeNumberField("pontuacao", linha.getPontuacao());
+                    if (linha.getVariacaoPosicao() != null) {
+                        gerador.writeNumberField("variacaoPosicao", linha.getVariacaoPosicao());
+                    } else {
+                        gerador.writeNullField("variacaoPosicao");
+                    }
+                    gerador.writeNumberField("usuarioId", linha.getUsuarioId());
+                    gerador.writeStringField("usuarioNome", linha.getUsuarioNome());
+                    gerador.writeStringField("usuarioEmail", linha.getUsuarioEmail());
+                    gerador.writeEndObject();
+                    gerador.writeRaw('\n');
+                }
+                gerador.flush();
+            });
+        }
+    }
+
+    private long percorrer(PeriodoRanking periodo, LocalDate dataReferencia, Pagina pagina) throws IOException {
+        long total = 0;
+        int posicao = 0;
+        long id = 0;
+        while (true) {
+            List<RankingExportacaoDTO> linhas = rankingRepository.findExportacaoByPeriodoAndDataReferenciaApos(
+                    periodo, dataReferencia, posicao, id, Limit.of(tamanhoPagina));
+            if (linhas.isEmpty()) {
+                return total;
+            }
+            pagina.escrever(linhas);
+            total += linhas.size();
+            if (linhas.size() < tamanhoPagina) {
+                return total;
+            }
+            RankingExportacaoDTO ultima = linhas.get(linhas.size() - 1);
+            posicao = ultima.getPosicao();
+            id = ultima.getId();
+        }
+    }
+
+    private static void escreverCampoCsv(Writer escritor, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        boolean aspas = false;
+        for (int i = 0; i < valor.length() && !aspas; i++) {
+            char c = valor.charAt(i);
+            aspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            escritor.write(valor);
+            return;
+        }
+        escritor.write('"');
+        escritor.write(valor.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+
+    /**
+     * Formatos de exportação, com o tipo de conteúdo e a extensão de arquivo de cada um
+     */
+    public enum Formato {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String tipoConteudo;
+        private final String extensao;
+
+        Formato(String tipoConteudo, String extensao) {
+            this.tipoConteudo = tipoConteudo;
+            this.extensao = extensao;
+        }
+
+        public String getTipoConteudo() { return tipoConteudo; }
+        public String getExtensao() { return extensao; }
+    }
+
+    @FunctionalInterface
+    private interface Pagina {
+        void escrever(List<RankingExportacaoDTO> linhas) throws IOException;
+    }
+
+    /**
+     * Impede que fechar o escritor feche a saída de quem chamou (ex.: a resposta HTTP)
+     */
+    private static final class NaoFecha extends FilterOutputStream {
+        private NaoFecha(OutputStream saida) {
+            super(saida);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -1,28 +1,152 @@
 package com.example.tdd_projeto.application.service;
 
-import java.util.List;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posição de um aluno no ranking. Só lê: o placar é alterado apenas pelos caminhos
+ * que mudam pontos (ingestão, importação, checkpoint), na escala de pontuacao_total.
+ * O ranking GERAL vem do placar em memória; os demais períodos vêm do snapshot mais
+ * recente do período, quando há consulta de snapshots (sem ela, do placar). A
+ * pontuação devolvida é a mesma usada para posicionar o aluno; fora do ranking
+ * (posição 0) é a pontuação base pela quantidade de engajamentos.
+ */
+@Service
 public class RankingService {
 
     private static final int PONTOS_BASE = 100;
     private static final int BONUS_ENGAJAMENTO = 50;
     private static final String VARIACAO_PADRAO = "+2";
 
+    private final PlacarRanking placar;
+    private final RankingConsultaService consultaService;
+    private final Map<PeriodoRanking, Timer> timers = new EnumMap<>(PeriodoRanking.class);
+    private final Timer timerOutroPeriodo;
+
+    public RankingService() {
+        this(new PlacarRanking());
+    }
+
+    public RankingService(PlacarRanking placar) {
+        this(placar, Metrics.globalRegistry);
+    }
+
+    public RankingService(PlacarRanking placar, MeterRegistry registry) {
+        this(placar, registry, null);
+    }
+
+    @Autowired
+    public RankingService(PlacarRanking placar, MeterRegistry registry, RankingConsultaService consultaService) {
+        this.placar = placar;
+        this.consultaService = consultaService;
+        for (PeriodoRanking periodo : PeriodoRanking.values()) {
+            timers.put(periodo, timer(registry, periodo.name()));
+        }
+        this.timerOutroPeriodo = timer(registry, "OUTRO");
+    }
+
+    /**
+     * Posição do aluno no período, pelo nome de um {@link PeriodoRanking} em
+     * qualquer caixa ("semanal", "MENSAL"...). Um período desconhecido ou nulo
+     * lança IllegalArgumentException: o período escolhe a fonte da posição.
+     */
     public RankingPosicao buscarRanking(Usuario usuario, String periodo) {
-        int pontuacao = calcularPontuacao(usuario.getEngajamentos());
-        int posicao = calcularPosicao(usuario.getEngajamentos());
+        long inicio = System.nanoTime();
+        try {
+            return calcularRanking(usuario, periodo);
+        } finally {
+            timerDo(periodo).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private RankingPosicao calcularRanking(Usuario usuario, String periodo) {
+        PeriodoRanking periodoRanking = converterPeriodo(periodo);
+        int totalEngajamentos = usuario.getTotalEngajamentos();
         String variacao = calcularVariacao();
+        // Sem engajamento o aluno ainda não participa do ranking
+        if (totalEngajamentos == 0) {
+            return naoClassificado(totalEngajamentos, variacao, periodo);
+        }
+        if (periodoRanking != PeriodoRanking.GERAL && consultaService != null) {
+            // Período sem snapshot (ou sem o aluno nele): fora do ranking, sem recorrer ao GERAL
+            return doSnapshot(usuario, periodoRanking)
+                    .map(dto -> new RankingPosicao(dto.getPosicao(), dto.getPontuacao(), variacao, periodo))
+                    .orElseGet(() -> naoClassificado(totalEngajamentos, variacao, periodo));
+        }
+        Integer noPlacar = usuario.getId() != null ? placar.pontuacao(usuario.getId()) : null;
+        if (noPlacar != null) {
+            return new RankingPosicao(placar.posicao(usuario.getId()), noPlacar, variacao, periodo);
+        }
+        // Fora do placar: posição que ele ocuparia com os pontos dos seus engajamentos,
+        // na mesma escala do placar (pontuacao_total), sem entrar no placar
+        int pontuacao = usuario.getPontuacaoTotal();
+        return new RankingPosicao(placar.contarAcima(pontuacao) + 1, pontuacao, variacao, periodo);
+    }
+
+    private Optional<RankingDTO> doSnapshot(Usuario usuario, PeriodoRanking periodo) {
+        if (usuario.getId() == null) {
+            return Optional.empty();
+        }
+        return consultaService.ultimaDataReferencia(periodo)
+                .flatMap(data -> consultaService.buscarDoUsuario(usuario.getId(), periodo, data));
+    }
+
+    private RankingPosicao naoClassificado(int totalEngajamentos, String variacao, String periodo) {
+        return new RankingPosicao(0, calcularPontuacao(totalEngajamentos), variacao, periodo);
+    }
+
+    /**
+     * Posição de um usuário já presente no placar (0 se ele não estiver no ranking)
+     */
+    public int buscarPosicao(Long usuarioId) {
+        return placar.posicao(usuarioId);
+    }
+
+    private Timer timerDo(String periodo) {
+        // Tag limitada aos períodos conhecidos para não explodir a cardinalidade
+        PeriodoRanking conhecido = periodoConhecido(periodo);
+        return conhecido != null ? timers.get(conhecido) : timerOutroPeriodo;
+    }
+
+    private static PeriodoRanking converterPeriodo(String periodo) {
+        PeriodoRanking conhecido = periodoConhecido(periodo);
+        if (conhecido == null) {
+            throw new IllegalArgumentException("Período desconhecido: " + periodo);
+        }
+        return conhecido;
+    }
 
-        return new RankingPosicao(posicao, pontuacao, variacao, periodo);
+    private static PeriodoRanking periodoConhecido(String periodo) {
+        if (periodo != null) {
+            for (PeriodoRanking conhecido : PeriodoRanking.values()) {
+                if (conhecido.name().equalsIgnoreCase(periodo)) {
+                    return conhecido;
+                }
+            }
+        }
+        return null;
     }
 
-    private int calcularPontuacao(List<String> engajamentos) {
-        return PONTOS_BASE + (engajamentos.size() * BONUS_ENGAJAMENTO);
+    private static Timer timer(MeterRegistry registry, String periodo) {
+        return Timer.builder("ranking.buscar")
+                .description("Tempo de RankingService.buscarRanking")
+                .tag("periodo", periodo)
+                .publishPercentileHistogram()
+                .register(registry);
     }
 
-    private int calcularPosicao(List<String> engajamentos) {
-        // Simples: se tiver algum engajamento, posição = 1, senão = 0
-        return engajamentos.isEmpty() ? 0 : 1;
+    private int calcularPontuacao(int totalEngajamentos) {
+        return PONTOS_BASE + (totalEngajamentos * BONUS_ENGAJAMENTO);
     }
 
     private String calcularVariacao() {
@@ -0,0 +1,103 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.SnapshotRankingGeradoEvent;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gera o snapshot da tabela rankings para um período e data de referência.
+ *
+ * Todo o cálculo é feito pelo banco em uma única instrução: pontos do período
+ * lidos de pontuacoes_periodo, posição com RANK() e variação em relação ao
+ * snapshot anterior do mesmo período, inseridos diretamente com INSERT ... SELECT.
+ */
+@Service
+public class RankingSnapshotService {
+
+    private static final String SQL_REMOVER_SNAPSHOT =
+        "DELETE FROM rankings WHERE periodo = ? AND data_referencia = ?";
+
+    private static final String SQL_SNAPSHOT_ANTERIOR =
+        "SELECT MAX(data_referencia) FROM rankings WHERE periodo = ? AND data_referencia < ?";
+
+    private static final String SQL_INSERIR_SNAPSHOT = """
+        INSERT INTO rankings (usuario_id, posicao, pontuacao, variacao_posicao, periodo, data_referencia, data_calculo)
+        SELECT atual.usuario_id, atual.posicao, atual.pontuacao, anterior.posicao - atual.posicao, ?, ?, ?
+        FROM (
+            SELECT p.usuario_id, p.pontos AS pontuacao, RANK() OVER (ORDER BY p.pontos DESC) AS posicao
+            FROM pontuacoes_periodo p
+            JOIN usuarios u ON u.id = p.usuario_id
+            WHERE u.ativo = TRUE AND p.periodo = ? AND p.inicio_periodo = ?
+        ) atual
+        LEFT JOIN rankings anterior
+            ON anterior.usuario_id = atual.usuario_id
+           AND anterior.periodo = ?
+           AND anterior.data_referencia = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventos;
+    private final Map<PeriodoRanking, Timer> timers = new EnumMap<>(PeriodoRanking.class);
+
+    public RankingSnapshotService(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventos, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventos = eventos;
+        for (PeriodoRanking periodo : PeriodoRanking.values()) {
+            timers.put(periodo, Timer.builder("ranking.snapshot")
+                    .description("Tempo de geração do snapshot de um período")
+                    .tag("periodo", periodo.name())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Recalcula (substituindo, se já existir) o snapshot do período na data de referência.
+     * Retorna a quantidade de usuários ranqueados.
+     */
+    @Transactional
+    public int gerarSnapshot(PeriodoRanking periodo, LocalDate dataReferencia) {
+        long inicio = System.nanoTime();
+        jdbcTemplate.update(SQL_REMOVER_SNAPSHOT, periodo.name(), Date.valueOf(dataReferencia));
+
+        LocalDate anterior = jdbcTemplate.queryForObject(
+            SQL_SNAPSHOT_ANTERIOR, LocalDate.class, periodo.name(), Date.valueOf(dataReferencia));
+
+        // Sem snapshot anterior a junção não encontra linhas e a variação fica nula
+        int ranqueados = jdbcTemplate.update(SQL_INSERIR_SNAPSHOT,
+            periodo.name(),
+            Date.valueOf(dataReferencia),
+            Timestamp.valueOf(LocalDateTime.now()),
+            periodo.name(),
+            Date.valueOf(periodo.inicioPeriodo(dataReferencia)),
+            periodo.name(),
+            anterior != null ? Date.valueOf(anterior) : null);
+
+        timers.get(periodo).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        eventos.publishEvent(new SnapshotRankingGeradoEvent(periodo, dataReferencia));
+        return ranqueados;
+    }
+
+    /**
+     * Recalcula os snapshots de todos os períodos na data de referência
+     */
+    @Transactional
+    public void gerarSnapshots(LocalDate dataReferencia) {
+        for (PeriodoRanking periodo : PeriodoRanking.values()) {
+            gerarSnapshot(periodo, dataReferencia);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Confere os contadores de engajamentos dos conteúdos com a tabela de engajamentos
+ * e corrige os divergentes (ex.: engajamentos gravados ou removidos fora do
+ * GravadorLoteEngajamentos).
+ *
+ * Os conteúdos são percorridos em faixas de id; cada faixa é contada e corrigida
+ * em uma transação entre dois lotes da ingestão, para que nenhum incremento
+ * concorrente se perca entre a contagem e a correção.
+ */
+@Component
+public class ReconciliadorContadoresConteudo {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliadorContadoresConteudo.class);
+
+    private static final TipoEngajamento[] TIPOS = TipoEngajamento.values();
+
+    private static final String SQL_PROXIMOS_IDS = "SELECT id FROM conteudos WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String SQL_CONTAR = """
+        SELECT conteudo_id, tipo, COUNT(*) FROM engajamentos
+        WHERE conteudo_id BETWEEN ? AND ?
+        GROUP BY conteudo_id, tipo
+        """;
+
+    // Colunas por tipo na ordem do enum TipoEngajamento
+    private static final String SQL_CONTADORES = """
+        SELECT id, total_engajamentos, total_postagens, total_respostas, total_curtidas,
+               total_comentarios, total_compartilhamentos
+        FROM conteudos WHERE id BETWEEN ? AND ?
+        """;
+
+    private static final String SQL_CORRIGIR = """
+        UPDATE conteudos SET total_engajamentos = ?, total_postagens = ?, total_respostas = ?,
+            total_curtidas = ?, total_comentarios = ?, total_compartilhamentos = ?
+        WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EngajamentoIngestaoService ingestao;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final int tamanhoFaixa;
+
+    public ReconciliadorContadoresConteudo(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EngajamentoIngestaoService ingestao,
+            CacheSegundoNivel cacheSegundoNivel,
+            @Value("${conteudo.contadores.tamanho-faixa:1000}") int tamanhoFaixa) {
+        if (tamanhoFaixa <= 0) {
+            throw new IllegalArgumentException("Tamanho da faixa de reconciliação inválido");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ingestao = ingestao;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.tamanhoFaixa = tamanhoFaixa;
+    }
+
+    /**
+     * Corrige todos os contadores divergentes e retorna quantos conteúdos foram corrigidos
+     */
+    @Scheduled(cron = "${conteudo.contadores.reconciliacao-cron:0 30 3 * * *}")
+    public int reconciliar() {
+        long inicio = System.nanoTime();
+        int corrigidos = 0;
+        long ultimoId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(SQL_PROXIMOS_IDS, Long.class, ultimoId, tamanhoFaixa);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long de = ids.get(0);
+            long ate = ids.get(ids.size() - 1);
+            corrigidos += ingestao.entreLotes(() -> transactionTemplate.execute(status -> corrigirFaixa(de, ate)));
+            if (ids.size() < tamanhoFaixa) {
+                break;
+            }
+            ultimoId = ate;
+        }
+        log.info("Contadores de engajamentos reconciliados: {} conteúdos corrigidos em {} ms",
+                corrigidos, (System.nanoTime() - inicio) / 1_000_000);
+        return corrigidos;
+    }
+
+    private int corrigirFaixa(long de, long ate) {
+        // Posição 0 é o total; as seguintes seguem a ordem do enum
+        Map<Long, int[]> contados = new HashMap<>();
+        jdbcTemplate.query(SQL_CONTAR, rs -> {
+            int[] contagens = contados.computeIfAbsent(rs.getLong(1), id -> new int[TIPOS.length + 1]);
+            int quantidade = rs.getInt(3);
+            contagens[TipoEngajamento.valueOf(rs.getString(2)).ordinal() + 1] = quantidade;
+            contagens[0] += quantidade;
+        }, de, ate);
+
+        List<Object[]> correcoes = new ArrayList<>();
+        List<Long> corrigidos = new ArrayList<>();
+        int[] zeros = new int[TIPOS.length + 1];
+        jdbcTemplate.query(SQL_CONTADORES, rs -> {
+            long conteudoId = rs.getLong(1);
+            int[] gravados = new int[TIPOS.length + 1];
+            for (int i = 0; i < gravados.length; i++) {
+                gravados[i] = rs.getInt(i + 2);
+            }
+            int[] esperados = contados.getOrDefault(conteudoId, zeros);
+            if (!Arrays.equals(gravados, esperados)) {
+                Object[] parametros = new Object[esperados.length + 1];
+                for (int i = 0; i < esperados.length; i++) {
+                    parametros[i] = esperados[i];
+                }
+                parametros[esperados.length] = conteudoId;
+                correcoes.add(parametros);
+                corrigidos.add(conteudoId);
+            }
+        }, de, ate);
+
+        if (!correcoes.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_CORRIGIR, correcoes);
+            cacheSegundoNivel.descartar(Conteudo.class, corrigidos);
+        }
+        return correcoes.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.EngajamentosGravadosEvent;
+import com.example.tdd_projeto.application.event.EngajamentosRemovidosEvent;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém os contadores dos conteúdos e os agregados por período quando um engajamento
+ * é inserido ou removido pela JPA (EngajamentoRepository, cascata de Conteudo) em vez
+ * do GravadorLoteEngajamentos. Roda na mesma transação do INSERT/DELETE e publica os
+ * mesmos eventos do gravador, para que o log de engajamentos veja todas as escritas.
+ *
+ * A remoção de um engajamento que a ingestão gravou (versao_placar preenchida)
+ * também desfaz os pontos do usuário, como {@link EngajamentoIngestaoService#remover}.
+ * O que fica em memória (placar, janelas deslizantes, cache do ranking) só é
+ * atualizado depois do commit.
+ */
+@Component
+public class SincronizadorEngajamentosJpa implements PostInsertEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final GravadorLoteEngajamentos gravador;
+    private final EngajamentoIngestaoService ingestao;
+    private final ApplicationEventPublisher eventos;
+
+    public SincronizadorEngajamentosJpa(EntityManagerFactory entityManagerFactory,
+                                        GravadorLoteEngajamentos gravador,
+                                        EngajamentoIngestaoService ingestao,
+                                        ApplicationEventPublisher eventos) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.gravador = gravador;
+        this.ingestao = ingestao;
+        this.eventos = eventos;
+    }
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_INSERT, this);
+        registro.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent evento) {
+        if (evento.getEntity() instanceof Engajamento engajamento) {
+            List<EngajamentoDTO> inseridos = List.of(converter(engajamento));
+            gravador.sincronizarAgregados(inseridos, 1);
+            depoisDoCommit(() -> ingestao.aplicarEscritaJpa(Map.of(), inseridos, 1));
+            eventos.publishEvent(new EngajamentosGravadosEvent(inseridos));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent evento) {
+        if (evento.getEntity() instanceof Engajamento engajamento) {
+            List<EngajamentoDTO> removidos = List.of(converter(engajamento));
+            gravador.sincronizarAgregados(removidos, -1);
+            // Só os gravados pela ingestão somaram pontos em pontuacao_total e no placar
+            Map<Long, Integer> pontos = engajamento.getVersaoPlacar() != null
+                    ? gravador.estornarPontos(removidos) : Map.of();
+            depoisDoCommit(() -> ingestao.aplicarEscritaJpa(pontos, removidos, -1));
+            eventos.publishEvent(new EngajamentosRemovidosEvent(removidos));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static void depoisDoCommit(Runnable acao) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    private static EngajamentoDTO converter(Engajamento engajamento) {
+        return EngajamentoDTO.builder()
+                .id(engajamento.getId())
+                .usuarioId(engajamento.getUsuario().getId())
+                .conteudoId(engajamento.getConteudo() != null ? engajamento.getConteudo().getId() : null)
+                .tipo(engajamento.getTipo().name())
+                .pontos(engajamento.getPontos())
+                .dataEngajamento(engajamento.getDataEngajamento())
+                .build();
+    }
+}
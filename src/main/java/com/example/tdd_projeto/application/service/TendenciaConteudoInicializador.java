@@ -0,0 +1,47 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Preenche as tendências de conteúdo com os engajamentos recentes quando a
+ * aplicação sobe. Eventos mais antigos que {@code tendencia.dias-carga} já pesam
+ * quase nada com o decaimento; as visualizações não têm data gravada e só entram
+ * a partir da subida.
+ */
+@Component
+public class TendenciaConteudoInicializador {
+
+    private final TendenciaConteudoService tendencias;
+    private final JdbcTemplate jdbcTemplate;
+    private final int diasCarga;
+
+    public TendenciaConteudoInicializador(TendenciaConteudoService tendencias, JdbcTemplate jdbcTemplate,
+                                          @Value("${tendencia.dias-carga:7}") int diasCarga) {
+        this.tendencias = tendencias;
+        this.jdbcTemplate = jdbcTemplate;
+        this.diasCarga = diasCarga;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        tendencias.limpar();
+        jdbcTemplate.query(
+            "SELECT e.conteudo_id, c.tipo, e.tipo, e.data_engajamento FROM engajamentos e "
+                + "JOIN conteudos c ON c.id = e.conteudo_id WHERE e.data_engajamento >= ?",
+            rs -> {
+                tendencias.registrar(rs.getLong(1), TipoConteudo.valueOf(rs.getString(2)),
+                        TipoEngajamento.valueOf(rs.getString(3)).getPontos(),
+                        rs.getTimestamp(4).toLocalDateTime());
+            },
+            Timestamp.valueOf(LocalDateTime.now().minusDays(diasCarga)));
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.application.event.EngajamentosGravadosEvent;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conteúdos em alta: pontuação com decaimento exponencial no tempo, somando
+ * visualizações e engajamentos (cada tipo pesa os seus pontos).
+ *
+ * A pontuação decaída de um conteúdo é soma(peso * e^(-λ(agora - t))). Como o
+ * fator e^(-λ·agora) é o mesmo para todos, guarda-se só o logaritmo de
+ * soma(peso * e^(λ(t - t0))) com t0 fixo: cada evento entra com um log-add-exp,
+ * nenhuma pontuação antiga precisa ser reescalada, e a ordem entre conteúdos não
+ * muda com a passagem do tempo.
+ *
+ * Com essa representação a pontuação de um conteúdo só cresce, então um top-K
+ * limitado por tipo de conteúdo é exato: quem sai do top-K só volta com um evento
+ * próprio, que é quando ele é comparado de novo. Ler o top é copiar até K itens.
+ */
+@Service
+public class TendenciaConteudoService {
+
+    // Origem fixa do tempo das pontuações (segundos desde a época)
+    static final long T0 = 1_735_689_600L; // 2025-01-01T00:00:00Z
+
+    private static final Comparator<Item> ORDEM = Comparator.comparingDouble((Item item) -> item.logPontuacao)
+            .reversed()
+            .thenComparingLong(item -> item.conteudoId);
+
+    private final Map<Long, Item> itens = new ConcurrentHashMap<>();
+    private final Map<TipoConteudo, Topo> topos = new EnumMap<>(TipoConteudo.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final double lambda;
+    private final double pesoVisualizacao;
+    private final int tamanhoTopo;
+
+    @Autowired
+    public TendenciaConteudoService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${tendencia.meia-vida-horas:24}") double meiaVidaHoras,
+            @Value("${tendencia.peso-visualizacao:1}") double pesoVisualizacao,
+            @Value("${tendencia.tamanho-topo:100}") int tamanhoTopo) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), meiaVidaHoras, pesoVisualizacao, tamanhoTopo);
+    }
+
+    public TendenciaConteudoService(JdbcTemplate jdbcTemplate, Clock clock, double meiaVidaHoras,
+                                    double pesoVisualizacao, int tamanhoTopo) {
+        if (meiaVidaHoras <= 0 || pesoVisualizacao <= 0 || tamanhoTopo <= 0) {
+            throw new IllegalArgumentException("Configuração de tendências inválida");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.lambda = Math.log(2) / (meiaVidaHoras * 3600);
+        this.pesoVisualizacao = pesoVisualizacao;
+        this.tamanhoTopo = tamanhoTopo;
+        for (TipoConteudo tipo : TipoConteudo.values()) {
+            topos.put(tipo, new Topo());
+        }
+    }
+
+    /**
+     * Soma os engajamentos com conteúdo depois do commit do lote
+     */
+    @TransactionalEventListener
+    public void aoGravarEngajamentos(EngajamentosGravadosEvent evento) {
+        registrarEngajamentos(evento.getEngajamentos());
+    }
+
+    public void registrarEngajamentos(List<EngajamentoDTO> engajamentos) {
+        List<Long> conteudoIds = new ArrayList<>(engajamentos.size());
+        for (EngajamentoDTO engajamento : engajamentos) {
+            if (engajamento.getConteudoId() != null) {
+                conteudoIds.add(engajamento.getConteudoId());
+            }
+        }
+        carregarTipos(conteudoIds);
+        for (EngajamentoDTO engajamento : engajamentos) {
+            if (engajamento.getConteudoId() != null) {
+                registrar(engajamento.getConteudoId(),
+                        TipoEngajamento.valueOf(engajamento.getTipo()).getPontos(),
+                        segundos(engajamento.getDataEngajamento()));
+            }
+        }
+    }
+
+    /**
+     * Soma visualizações agrupadas por conteúdo, todas no instante atual
+     */
+    public void registrarVisualizacoes(Map<Long, Long> visualizacoes) {
+        carregarTipos(visualizacoes.keySet());
+        long agora = clock.instant().getEpochSecond();
+        visualizacoes.forEach((conteudoId, quantidade) -> {
+            if (quantidade > 0) {
+                registrar(conteudoId, quantidade * pesoVisualizacao, agora);
+            }
+        });
+    }
+
+    /**
+     * Conteúdo de tipo conhecido; usado na carga inicial para evitar a consulta do tipo
+     */
+    public void registrar(Long conteudoId, TipoConteudo tipo, double peso, LocalDateTime quando) {
+        itens.computeIfAbsent(conteudoId, id -> new Item(id, tipo));
+        registrar(conteudoId, peso, segundos(quando));
+    }
+
+    /**
+     * Os conteúdos do tipo mais em alta agora, do maior para o menor (até o tamanho do top)
+     */
+    public List<ConteudoTendencia> top(TipoConteudo tipo, int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+        double deslocamento = lambda * (clock.instant().getEpochSecond() - T0);
+        Topo topo = topos.get(tipo);
+        synchronized (topo) {
+            List<ConteudoTendencia> resultado = new ArrayList<>(Math.min(limite, topo.itens.size()));
+            for (Item item : topo.itens) {
+                if (resultado.size() == limite) {
+                    break;
+                }
+                resultado.add(new ConteudoTendencia(item.conteudoId, Math.exp(item.logPontuacao - deslocamento)));
+            }
+            return resultado;
+        }
+    }
+
+    /**
+     * Pontuação decaída do conteúdo agora (0 se não tem eventos)
+     */
+    public double pontuacao(Long conteudoId) {
+        Item item = itens.get(conteudoId);
+        if (item == null) {
+            return 0;
+        }
+        double log;
+        synchronized (topos.get(item.tipo)) {
+            log = item.logPontuacao;
+        }
+        return Math.exp(log - lambda * (clock.instant().getEpochSecond() - T0));
+    }
+
+    public void limpar() {
+        for (Topo topo : topos.values()) {
+            synchronized (topo) {
+                topo.itens.clear();
+            }
+        }
+        itens.clear();
+    }
+
+    public int tamanho() {
+        return itens.size();
+    }
+
+    private void registrar(Long conteudoId, double peso, long segundos) {
+        Item item = itens.get(conteudoId);
+        if (item == null || peso <= 0) {
+            return; // conteúdo inexistente
+        }
+        Topo topo = topos.get(item.tipo);
+        double logEvento = Math.log(peso) + lambda * (segundos - T0);
+        synchronized (topo) {
+            boolean presente = item.noTopo && topo.itens.remove(item);
+            item.logPontuacao = logSomaExp(item.logPontuacao, logEvento);
+            if (presente || topo.itens.size() < tamanhoTopo) {
+                topo.itens.add(item);
+                item.noTopo = true;
+            } else if (ORDEM.compare(item, topo.itens.last()) < 0) {
+                topo.itens.pollLast().noTopo = false;
+                topo.itens.add(item);
+                item.noTopo = true;
+            }
+        }
+    }
+
+    /**
+     * Busca de uma vez o tipo dos conteúdos ainda desconhecidos
+     */
+    private void carregarTipos(Collection<Long> conteudoIds) {
+        Set<Long> faltantes = new TreeSet<>();
+        for (Long conteudoId : conteudoIds) {
+            if (!itens.containsKey(conteudoId)) {
+                faltantes.add(conteudoId);
+            }
+        }
+        if (faltantes.isEmpty()) {
+            return;
+        }
+        Map<Long, TipoConteudo> tipos = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT id, tipo FROM conteudos WHERE id IN ("
+                + String.join(",", Collections.nCopies(faltantes.size(), "?")) + ")",
+            rs -> {
+                tipos.put(rs.getLong(1), TipoConteudo.valueOf(rs.getString(2)));
+            },
+            faltantes.toArray());
+        tipos.forEach((conteudoId, tipo) -> itens.computeIfAbsent(conteudoId, id -> new Item(id, tipo)));
+    }
+
+    private long segundos(LocalDateTime quando) {
+        return quando.atZone(clock.getZone()).toEpochSecond();
+    }
+
+    private static double logSomaExp(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        double maior = Math.max(a, b);
+        return maior + Math.log1p(Math.exp(Math.min(a, b) - maior));
+    }
+
+    /**
+     * Conteúdo e sua pontuação decaída no momento da leitura
+     */
+    public record ConteudoTendencia(Long conteudoId, double pontuacao) {
+    }
+
+    /**
+     * Estado de um conteúdo; a pontuação só muda com o monitor do Topo do seu tipo
+     */
+    private static final class Item {
+        private final long conteudoId;
+        private final TipoConteudo tipo;
+        private double logPontuacao = Double.NEGATIVE_INFINITY;
+        private boolean noTopo;
+
+        Item(long conteudoId, TipoConteudo tipo) {
+            this.conteudoId = conteudoId;
+            this.tipo = tipo;
+        }
+    }
+
+    /**
+     * Os K conteúdos de maior pontuação de um tipo
+     */
+    private static final class Topo {
+        private final TreeSet<Item> itens = new TreeSet<>(ORDEM);
+    }
+}
@@ -1,48 +1,153 @@
 package com.example.tdd_projeto.application.service;
 
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public class Usuario {
+    private static final TipoEngajamento[] TIPOS = TipoEngajamento.values();
+
+    // Pontos de um tipo fora de TipoEngajamento (o valor padrão de sempre)
+    static final int PONTOS_OUTROS = 10;
+
+    private static final String[] NOMES = new String[TIPOS.length];
+
+    static {
+        for (TipoEngajamento tipo : TIPOS) {
+            NOMES[tipo.ordinal()] = tipo.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private Long id;
     private String nome;
-    private Map<String, Integer> engajamentos = new HashMap<>();
+    // Quantidade de engajamentos por tipo, indexada pelo ordinal de TipoEngajamento
+    private final int[] engajamentos = new int[TIPOS.length];
+    // Nome com que cada tipo foi registrado pela primeira vez e a posição desse registro
+    private final String[] grafias = new String[TIPOS.length];
+    private final int[] primeiroRegistro = new int[TIPOS.length];
+    // Registros de um tipo com outra grafia (ex.: "Postagem" depois de "postagem")
+    private final int[] outrasGrafias = new int[TIPOS.length];
+    // Nomes fora de TipoEngajamento e outras grafias: {posição do primeiro registro, quantidade}
+    private final Map<String, int[]> nomesRegistrados = new HashMap<>();
+    private int outros;
+    private int totalEngajamentos;
+    private int pontuacaoTotal;
 
     public Usuario(String nome) {
         this.nome = nome;
     }
 
+    public Usuario(Long id, String nome) {
+        this.id = id;
+        this.nome = nome;
+    }
+
+    public void registrarEngajamento(TipoEngajamento tipo) {
+        registrar(tipo, NOMES[tipo.ordinal()]);
+    }
+
+    /**
+     * Registra pelo nome do tipo ("postagem", "resposta"...). Um nome fora de
+     * TipoEngajamento entra no grupo "outros", valendo {@value #PONTOS_OUTROS} pontos.
+     */
     public void registrarEngajamento(String tipo) {
-        engajamentos.put(tipo, engajamentos.getOrDefault(tipo, 0) + 1);
+        if (tipo == null) {
+            throw new IllegalArgumentException("Tipo de engajamento não informado");
+        }
+        registrar(converter(tipo), tipo);
     }
 
-    public int getPontuacaoTotal() {
-        int pontos = 0;
-        for (Map.Entry<String, Integer> entry : engajamentos.entrySet()) {
-            String tipo = entry.getKey();
-            int qtd = entry.getValue();
-            switch (tipo) {
-                case "postagem" -> pontos += 50 * qtd;
-                case "resposta" -> pontos += 30 * qtd;
-                default -> pontos += 10 * qtd;
+    private void registrar(TipoEngajamento tipo, String nomeRegistrado) {
+        if (tipo != null) {
+            int indice = tipo.ordinal();
+            engajamentos[indice]++;
+            pontuacaoTotal += tipo.getPontos();
+            if (grafias[indice] == null) {
+                grafias[indice] = nomeRegistrado;
+                primeiroRegistro[indice] = totalEngajamentos;
+            } else if (!grafias[indice].equals(nomeRegistrado)) {
+                outrasGrafias[indice]++;
+                contarNome(nomeRegistrado);
             }
+        } else {
+            outros++;
+            pontuacaoTotal += PONTOS_OUTROS;
+            contarNome(nomeRegistrado);
         }
-        return pontos;
+        totalEngajamentos++;
+    }
+
+    private void contarNome(String nomeRegistrado) {
+        nomesRegistrados.computeIfAbsent(nomeRegistrado, n -> new int[] {totalEngajamentos, 0})[1]++;
+    }
+
+    public int getPontuacaoTotal() {
+        return pontuacaoTotal;
+    }
+
+    public int getTotalEngajamentos() {
+        return totalEngajamentos;
+    }
+
+    public int getQuantidade(TipoEngajamento tipo) {
+        return engajamentos[tipo.ordinal()];
+    }
+
+    /**
+     * Engajamentos registrados com um nome fora de TipoEngajamento
+     */
+    public int getQuantidadeOutros() {
+        return outros;
+    }
+
+    public Long getId() {
+        return id;
     }
 
     public String getNome() {
         return nome;
     }
 
-    //  Corrigido: gera uma lista de engajamentos baseada no map
+    /**
+     * Lista com o nome de cada engajamento como foi registrado (um elemento por
+     * engajamento; registros pelo enum usam o nome em minúsculas).
+     * Para contar use {@link #getTotalEngajamentos()}, que não aloca.
+     */
     public List<String> getEngajamentos() {
-        List<String> lista = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : engajamentos.entrySet()) {
-            for (int i = 0; i < entry.getValue(); i++) {
-                lista.add(entry.getKey()); // adiciona o tipo várias vezes
+        // Um grupo por nome, na ordem do primeiro registro de cada um
+        List<Grupo> grupos = new ArrayList<>(TIPOS.length + nomesRegistrados.size());
+        for (int i = 0; i < TIPOS.length; i++) {
+            if (grafias[i] != null) {
+                grupos.add(new Grupo(primeiroRegistro[i], grafias[i], engajamentos[i] - outrasGrafias[i]));
+            }
+        }
+        nomesRegistrados.forEach((nomeRegistrado, registro) ->
+                grupos.add(new Grupo(registro[0], nomeRegistrado, registro[1])));
+        grupos.sort(Comparator.comparingInt(Grupo::primeiro));
+
+        List<String> lista = new ArrayList<>(totalEngajamentos);
+        for (Grupo grupo : grupos) {
+            for (int i = 0; i < grupo.quantidade(); i++) {
+                lista.add(grupo.nome());
             }
         }
         return lista;
     }
+
+    private record Grupo(int primeiro, String nome, int quantidade) {
+    }
+
+    private static TipoEngajamento converter(String tipo) {
+        for (TipoEngajamento candidato : TIPOS) {
+            if (candidato.name().equalsIgnoreCase(tipo)) {
+                return candidato;
+            }
+        }
+        return null;
+    }
 }
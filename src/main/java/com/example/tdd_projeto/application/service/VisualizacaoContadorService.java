@@ -0,0 +1,178 @@
+package com.example.tdd_projeto.application.service;
+
+import com.example.tdd_projeto.domain.repository.ConteudoRepository;
+import com.example.tdd_projeto.shared.dto.ConteudoDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contador de visualizações de conteúdos que agrupa os incrementos em memória.
+ *
+ * Em vez de carregar o Conteudo e chamar {@code visualizar()} a cada acesso
+ * (o que reescreve a linha inteira, inclusive o texto), as visualizações são
+ * somadas por id e gravadas em lote com
+ * {@code UPDATE conteudos SET visualizacoes = visualizacoes + ?}, a cada
+ * intervalo ou quando o volume pendente atinge o limite configurado. As
+ * visualizações gravadas também alimentam as tendências de conteúdo, sempre pela
+ * gravação periódica: a gravação feita na thread da visualização (limite atingido)
+ * só guarda o que gravou, para não consultar tipos de conteúdo nessa thread.
+ *
+ * A gravação não descarta nada do cache de segundo nível: o Hibernate nunca escreve
+ * a coluna (o incremento por SQL não é sobrescrito) e consultas não dependem dela.
+ * Um Conteudo em cache pode mostrar visualizações atrasadas; a contagem atual vem
+ * de {@link #visualizar} e {@link #visualizacoes}.
+ */
+@Service
+public class VisualizacaoContadorService {
+
+    private static final Logger log = LoggerFactory.getLogger(VisualizacaoContadorService.class);
+
+    private static final String SQL_SOMAR_VISUALIZACOES =
+        "UPDATE conteudos SET visualizacoes = COALESCE(visualizacoes, 0) + ? WHERE id = ?";
+
+    private static final String SQL_VISUALIZACOES =
+        "SELECT COALESCE(visualizacoes, 0) FROM conteudos WHERE id = ?";
+
+    private final DeltasPendentes deltas = new DeltasPendentes();
+    private final ReentrantReadWriteLock gravacao = new ReentrantReadWriteLock();
+    // Gravadas e ainda não repassadas às tendências; só muda com o write lock
+    private final Map<Long, Long> paraTendencias = new HashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConteudoRepository conteudoRepository;
+    private final TendenciaConteudoService tendencias;
+    private final long limite;
+
+    public VisualizacaoContadorService(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       ConteudoRepository conteudoRepository,
+                                       TendenciaConteudoService tendencias,
+                                       @Value("${conteudo.visualizacoes.limite-pendente:10000}") long limite) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.conteudoRepository = conteudoRepository;
+        this.tendencias = tendencias;
+        this.limite = limite;
+    }
+
+    /**
+     * Lê o conteúdo completo e registra a visualização. As visualizações devolvidas
+     * incluem as ainda não gravadas, inclusive a desta leitura. Vazio (sem registrar
+     * nada) se o conteúdo não existir.
+     */
+    public Optional<ConteudoDTO> visualizar(Long conteudoId) {
+        Optional<ConteudoDTO> conteudo;
+        gravacao.readLock().lock();
+        try {
+            conteudo = conteudoRepository.findCompletoById(conteudoId);
+            conteudo.ifPresent(dto -> {
+                deltas.adicionar(conteudoId, 1);
+                long gravadas = dto.getVisualizacoes() != null ? dto.getVisualizacoes() : 0;
+                dto.setVisualizacoes(Math.toIntExact(gravadas + deltas.naoGravado(conteudoId)));
+            });
+        } finally {
+            gravacao.readLock().unlock();
+        }
+        gravarSeAtingiuLimite();
+        return conteudo;
+    }
+
+    /**
+     * Registra uma visualização do conteúdo
+     */
+    public void registrarVisualizacao(Long conteudoId) {
+        deltas.adicionar(conteudoId, 1);
+        gravarSeAtingiuLimite();
+    }
+
+    private void gravarSeAtingiuLimite() {
+        if (deltas.volumePendente() >= limite && gravacao.writeLock().tryLock()) {
+            try {
+                guardarParaTendencias(gravarPendentes());
+            } finally {
+                gravacao.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Visualizações do conteúdo incluindo as ainda não gravadas
+     */
+    public long visualizacoes(Long conteudoId) {
+        gravacao.readLock().lock();
+        try {
+            Integer gravadas = jdbcTemplate.query(SQL_VISUALIZACOES,
+                rs -> rs.next() ? rs.getInt(1) : null, conteudoId);
+            if (gravadas == null) {
+                throw new IllegalArgumentException("Conteúdo não encontrado: " + conteudoId);
+            }
+            return gravadas + deltas.naoGravado(conteudoId);
+        } finally {
+            gravacao.readLock().unlock();
+        }
+    }
+
+    /**
+     * Grava as visualizações acumuladas
+     */
+    @Scheduled(fixedDelayString = "${conteudo.visualizacoes.intervalo-ms:1000}")
+    public void descarregar() {
+        Map<Long, Long> visualizacoes;
+        gravacao.writeLock().lock();
+        try {
+            guardarParaTendencias(gravarPendentes());
+            visualizacoes = new HashMap<>(paraTendencias);
+            paraTendencias.clear();
+        } finally {
+            gravacao.writeLock().unlock();
+        }
+        if (!visualizacoes.isEmpty()) {
+            tendencias.registrarVisualizacoes(visualizacoes);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        descarregar();
+    }
+
+    private void guardarParaTendencias(Map<Long, Long> gravados) {
+        gravados.forEach((conteudoId, quantidade) -> paraTendencias.merge(conteudoId, quantidade, Long::sum));
+    }
+
+    /**
+     * Grava os deltas pendentes e retorna os gravados (vazio se nada foi gravado)
+     */
+    private Map<Long, Long> gravarPendentes() {
+        Map<Long, Long> drenados = deltas.drenar();
+        if (drenados.isEmpty()) {
+            return drenados;
+        }
+        List<Object[]> atualizacoes = new ArrayList<>(drenados.size());
+        new TreeMap<>(drenados).forEach((conteudoId, delta) -> atualizacoes.add(new Object[] {delta, conteudoId}));
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.batchUpdate(SQL_SOMAR_VISUALIZACOES, atualizacoes));
+            deltas.confirmar(drenados);
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar visualizações de {} conteúdos; serão tentadas novamente", drenados.size(), e);
+            deltas.devolver(drenados);
+            return Map.of();
+        }
+        return drenados;
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.tdd_projeto.domain.entity;
 
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,7 +16,13 @@ import java.util.List;
  * Entidade que representa um Conteúdo publicado por um usuário.
  */
 @Entity
-@Table(name = "conteudos")
+@Table(name = "conteudos", indexes = {
+    @Index(name = "idx_conteudos_visualizacoes", columnList = "visualizacoes DESC, id"),
+    @Index(name = "idx_conteudos_autor", columnList = "autor_id, data_publicacao DESC, id DESC"),
+    @Index(name = "idx_conteudos_tipo", columnList = "tipo, id")
+})
+@Cacheable // Cache de segundo nível (opcional, perfil "cache")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "conteudos")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +32,11 @@ import java.util.List;
 @ToString(exclude = {"autor", "engajamentos"})
 public class Conteudo {
     
+    /**
+     * Região do cache de consultas que leem só a tabela conteudos
+     */
+    public static final String REGIAO_CONSULTAS = "conteudos-consultas";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
@@ -48,7 +62,9 @@ public class Conteudo {
     @Column(name = "data_publicacao", nullable = false, updatable = false)
     private LocalDateTime dataPublicacao;
     
-    @Column(name = "visualizacoes")
+    // Somado por SQL (VisualizacaoContadorService); o Hibernate só o escreve na inserção,
+    // para não sobrescrever incrementos concorrentes com um valor lido antes
+    @Column(name = "visualizacoes", updatable = false)
     @Builder.Default
     private Integer visualizacoes = 0;
     
@@ -56,6 +72,39 @@ public class Conteudo {
     @Builder.Default
     private List<Engajamento> engajamentos = new ArrayList<>();
     
+    // Contadores mantidos por SQL junto com os engajamentos (GravadorLoteEngajamentos,
+    // também para inserções e remoções pela JPA);
+    // o Hibernate nunca os escreve, para não sobrescrever incrementos concorrentes
+    @Column(name = "total_engajamentos", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalEngajamentos = 0;
+    
+    @Column(name = "total_postagens", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalPostagens = 0;
+    
+    @Column(name = "total_respostas", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalRespostas = 0;
+    
+    @Column(name = "total_curtidas", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalCurtidas = 0;
+    
+    @Column(name = "total_comentarios", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalComentarios = 0;
+    
+    @Column(name = "total_compartilhamentos", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Integer totalCompartilhamentos = 0;
+    
     /**
      * Enum para tipos de conteúdo
      */
@@ -80,24 +129,40 @@ public class Conteudo {
     // Métodos de negócio
     
     /**
-     * Incrementa o contador de visualizações
+     * Incrementa o contador de visualizações da entidade (gravado só na inserção).
+     * Para acessos de página use VisualizacaoContadorService, que agrupa os incrementos.
      */
     public void visualizar() {
         this.visualizacoes++;
     }
     
     /**
-     * Retorna total de engajamentos
+     * Retorna total de engajamentos (contador gravado, sem carregar a coleção)
      */
     public int getTotalEngajamentos() {
-        return engajamentos.size();
+        return totalEngajamentos;
+    }
+    
+    /**
+     * Retorna o total de engajamentos do tipo (contador gravado, sem carregar a coleção)
+     */
+    public int getTotalEngajamentos(TipoEngajamento tipo) {
+        return switch (tipo) {
+            case POSTAGEM -> totalPostagens;
+            case RESPOSTA -> totalRespostas;
+            case CURTIDA -> totalCurtidas;
+            case COMENTARIO -> totalComentarios;
+            case COMPARTILHAMENTO -> totalCompartilhamentos;
+        };
     }
     
     /**
-     * Adiciona um engajamento ao conteúdo
+     * Adiciona um engajamento ao conteúdo; gravado em cascata junto com o conteúdo.
+     * Com o conteúdo gerenciado a inclusão fica enfileirada na coleção lazy, sem carregá-la;
+     * os contadores são somados na inserção (SincronizadorEngajamentosJpa).
      */
     public void adicionarEngajamento(Engajamento engajamento) {
-        engajamentos.add(engajamento);
         engajamento.setConteudo(this);
+        engajamentos.add(engajamento);
     }
 }
\ No newline at end of file
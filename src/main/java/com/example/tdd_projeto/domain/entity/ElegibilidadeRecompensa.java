@@ -0,0 +1,64 @@
+package com.example.tdd_projeto.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Registro de que um usuário atingiu o limite de pontos de um mês e tem direito
+ * à recompensa mensal. Criado uma única vez, no momento do cruzamento.
+ */
+@Entity
+@Table(name = "elegibilidades_recompensa",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_elegibilidades_recompensa_usuario_mes",
+           columnNames = {"usuario_id", "mes"}
+       ),
+       indexes = @Index(name = "idx_elegibilidades_recompensa_mes", columnList = "mes, situacao, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = "usuario")
+public class ElegibilidadeRecompensa {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+    
+    @Column(nullable = false)
+    private LocalDate mes; // primeiro dia do mês
+    
+    @Column(nullable = false)
+    private Integer limite;
+    
+    @Column(nullable = false)
+    private Integer pontos; // pontos do mês no lote que cruzou o limite
+    
+    @Column(name = "data_cruzamento", nullable = false)
+    private LocalDateTime dataCruzamento;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SituacaoElegibilidade situacao;
+    
+    @Column(name = "data_finalizacao")
+    private LocalDateTime dataFinalizacao;
+    
+    /**
+     * ELEGIVEL enquanto o mês está aberto; CONCEDIDA depois do fechamento
+     */
+    public enum SituacaoElegibilidade {
+        ELEGIVEL,
+        CONCEDIDA
+    }
+}
@@ -9,7 +9,14 @@ import java.time.LocalDateTime;
  * Entidade que representa uma interação de um usuário com um conteúdo.
  */
 @Entity
-@Table(name = "engajamentos")
+@Table(name = "engajamentos", indexes = {
+    @Index(name = "idx_engajamentos_data", columnList = "data_engajamento, id"),
+    @Index(name = "idx_engajamentos_tipo", columnList = "tipo, id"),
+    @Index(name = "idx_engajamentos_usuario", columnList = "usuario_id, id"),
+    @Index(name = "idx_engajamentos_usuario_data", columnList = "usuario_id, data_engajamento"),
+    @Index(name = "idx_engajamentos_conteudo", columnList = "conteudo_id"),
+    @Index(name = "idx_engajamentos_versao_placar", columnList = "versao_placar")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +49,13 @@ public class Engajamento {
     @Column(name = "data_engajamento", nullable = false, updatable = false)
     private LocalDateTime dataEngajamento;
     
+    /**
+     * Versão do placar do lote da ingestão que gravou o engajamento e somou os seus
+     * pontos em pontuacao_total; nula para engajamentos inseridos pela JPA
+     */
+    @Column(name = "versao_placar", insertable = false, updatable = false)
+    private Long versaoPlacar;
+    
     /**
      * Enum para tipos de engajamento e pontuação associada
      */
@@ -0,0 +1,48 @@
+package com.example.tdd_projeto.domain.entity;
+
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Pontos acumulados por um usuário em um período (dia, semana ISO, mês, ano ou geral).
+ * Mantido incrementalmente a cada engajamento gravado, evitando somar as linhas brutas.
+ */
+@Entity
+@Table(name = "pontuacoes_periodo",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_pontuacoes_periodo",
+           columnNames = {"usuario_id", "periodo", "inicio_periodo"}
+       ),
+       indexes = @Index(name = "idx_pontuacoes_periodo_ranking",
+                        columnList = "periodo, inicio_periodo, pontos DESC, usuario_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = "usuario")
+public class PontuacaoPeriodo {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PeriodoRanking periodo;
+    
+    @Column(name = "inicio_periodo", nullable = false)
+    private LocalDate inicioPeriodo; // primeiro dia do período (GERAL usa 1970-01-01)
+    
+    @Column(nullable = false)
+    private Integer pontos;
+}
@@ -3,8 +3,10 @@ package com.example.tdd_projeto.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 
 /**
  * Entidade que representa a posição de um usuário no ranking em um período.
@@ -12,8 +14,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "rankings", 
        uniqueConstraints = @UniqueConstraint(
+           name = "uk_rankings_usuario_periodo_data",
            columnNames = {"usuario_id", "periodo", "data_referencia"}
-       ))
+       ),
+       indexes = @Index(name = "idx_rankings_snapshot", columnList = "periodo, data_referencia, posicao, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -70,6 +74,34 @@ public class Ranking {
         public String getDescricao() {
             return descricao;
         }
+        
+        /**
+         * Primeiro dia do período que contém a data (semana ISO começa na segunda-feira)
+         */
+        public LocalDate inicioPeriodo(LocalDate data) {
+            return switch (this) {
+                case DIARIO -> data;
+                case SEMANAL -> data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MENSAL -> data.withDayOfMonth(1);
+                case ANUAL -> data.withDayOfYear(1);
+                case GERAL -> LocalDate.EPOCH;
+            };
+        }
+        
+        /**
+         * Primeiro dia após o período que contém a data (limite exclusivo).
+         * O período GERAL não tem fim e retorna null.
+         */
+        public LocalDate fimPeriodo(LocalDate data) {
+            LocalDate inicio = inicioPeriodo(data);
+            return switch (this) {
+                case DIARIO -> inicio.plusDays(1);
+                case SEMANAL -> inicio.plusWeeks(1);
+                case MENSAL -> inicio.plusMonths(1);
+                case ANUAL -> inicio.plusYears(1);
+                case GERAL -> null;
+            };
+        }
     }
     
     @PrePersist
@@ -85,6 +117,13 @@ public class Ranking {
      * Retorna variação formatada (+2, -1, =)
      */
     public String getVariacaoFormatada() {
+        return formatarVariacao(variacaoPosicao);
+    }
+    
+    /**
+     * Formata uma variação de posição (+2, -1, =); usado também pelas projeções em DTO
+     */
+    public static String formatarVariacao(Integer variacaoPosicao) {
         if (variacaoPosicao == null || variacaoPosicao == 0) {
             return "=";
         }
@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,7 +19,13 @@ import java.time.LocalDateTime;
  * Segue princípios DDD com validações de negócio.
  */
 @Entity
-@Table(name = "usuarios")
+@Table(name = "usuarios", indexes = {
+    @Index(name = "idx_usuarios_ranking", columnList = "ativo, pontuacao_total DESC, id"),
+    @Index(name = "idx_usuarios_pontuacao", columnList = "pontuacao_total")
+})
+@Cacheable // Cache de segundo nível (opcional, perfil "cache")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuarios")
+@NaturalIdCache(region = "usuarios-email")
 @Getter
 @Setter
 @NoArgsConstructor // JPA exige construtor vazio
@@ -25,6 +35,11 @@ import java.time.LocalDateTime;
 @ToString(exclude = {"senha", "conteudos", "engajamentos", "rankings"}) // Não exibir senha em logs
 public class Usuario {
     
+    /**
+     * Região do cache de consultas que leem só a tabela usuarios
+     */
+    public static final String REGIAO_CONSULTAS = "usuarios-consultas";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include // Incluir na comparação
@@ -35,6 +50,7 @@ public class Usuario {
     @Column(nullable = false, length = 100)
     private String nome;
     
+    @NaturalId(mutable = true) // Identidade de negócio; permite busca pelo cache de id natural
     @Embedded // Email é um Value Object embutido
     @AttributeOverride(name = "endereco", column = @Column(name = "email", unique = true, nullable = false))
     private Email email;
@@ -79,7 +95,9 @@ public class Usuario {
     // Métodos de negócio (regras do domínio)
     
     /**
-     * Adiciona pontos ao usuário
+     * Adiciona pontos ao usuário. Só para entidades ainda não gravadas: em uma
+     * entidade gerenciada a soma perde atualizações concorrentes. Pontos de
+     * engajamentos são somados pela ingestão com UPDATE atômico.
      */
     public void adicionarPontos(Integer pontos) {
         if (pontos == null || pontos < 0) {
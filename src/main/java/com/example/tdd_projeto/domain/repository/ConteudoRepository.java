@@ -3,18 +3,34 @@ package com.example.tdd_projeto.domain.repository;
 import com.example.tdd_projeto.domain.entity.Conteudo;
 import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
 import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.shared.dto.ConteudoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ConteudoRepository extends JpaRepository<Conteudo, Long> {
     
+    String SELECT_RESUMO = "SELECT new com.example.tdd_projeto.shared.dto.ConteudoDTO(" +
+        "c.id, a.id, a.nome, c.titulo, c.tipo, c.dataPublicacao, c.visualizacoes) " +
+        "FROM Conteudo c JOIN c.autor a ";
+    
     /**
-     * Busca conteúdos de um autor específico
+     * Busca conteúdos de um autor específico (resultado guardado no cache de consultas, se habilitado)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Conteudo.REGIAO_CONSULTAS)
+    })
     List<Conteudo> findByAutor(Usuario autor);
     
     /**
@@ -29,7 +45,71 @@ public interface ConteudoRepository extends JpaRepository<Conteudo, Long> {
     List<Conteudo> findTopConteudosByVisualizacoes();
     
     /**
-     * Conta quantos conteúdos um autor publicou
+     * Primeira página dos mais visualizados (ordem estável por visualizações e id)
+     */
+    @Query("SELECT c FROM Conteudo c ORDER BY c.visualizacoes DESC, c.id ASC")
+    List<Conteudo> findTopConteudosByVisualizacoes(Limit limite);
+    
+    /**
+     * Próxima página dos mais visualizados a partir do último (visualizações, id) lido
+     */
+    @Query("SELECT c FROM Conteudo c " +
+           "WHERE c.visualizacoes < :visualizacoes OR (c.visualizacoes = :visualizacoes AND c.id > :id) " +
+           "ORDER BY c.visualizacoes DESC, c.id ASC")
+    List<Conteudo> findTopConteudosByVisualizacoesApos(
+        @Param("visualizacoes") Integer visualizacoes,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Percorre os mais visualizados sob demanda (usar dentro de uma transação e fechar o Stream)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Conteudo c ORDER BY c.visualizacoes DESC, c.id ASC")
+    Stream<Conteudo> streamTopConteudosByVisualizacoes();
+    
+    /**
+     * Conteúdos de um autor como resumo (sem o texto), mais recentes primeiro
+     */
+    @Query(SELECT_RESUMO + "WHERE a.id = :autorId ORDER BY c.dataPublicacao DESC, c.id DESC")
+    List<ConteudoDTO> findResumosByAutorId(@Param("autorId") Long autorId);
+    
+    /**
+     * Primeira página dos mais visualizados como resumo (sem o texto)
+     */
+    @Query(SELECT_RESUMO + "ORDER BY c.visualizacoes DESC, c.id ASC")
+    List<ConteudoDTO> findResumosTopByVisualizacoes(Limit limite);
+    
+    /**
+     * Próxima página dos mais visualizados como resumo, a partir do último (visualizações, id) lido
+     */
+    @Query(SELECT_RESUMO +
+           "WHERE c.visualizacoes < :visualizacoes OR (c.visualizacoes = :visualizacoes AND c.id > :id) " +
+           "ORDER BY c.visualizacoes DESC, c.id ASC")
+    List<ConteudoDTO> findResumosTopByVisualizacoesApos(
+        @Param("visualizacoes") Integer visualizacoes,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Conteúdo completo (com o texto) já como DTO
+     */
+    @Query("SELECT new com.example.tdd_projeto.shared.dto.ConteudoDTO(" +
+           "c.id, a.id, a.nome, c.titulo, c.texto, c.tipo, c.dataPublicacao, c.visualizacoes) " +
+           "FROM Conteudo c JOIN c.autor a WHERE c.id = :id")
+    Optional<ConteudoDTO> findCompletoById(@Param("id") Long id);
+    
+    /**
+     * Conta quantos conteúdos um autor publicou (resultado guardado no cache de consultas, se habilitado)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Conteudo.REGIAO_CONSULTAS)
+    })
     Long countByAutor(Usuario autor);
 }
\ No newline at end of file
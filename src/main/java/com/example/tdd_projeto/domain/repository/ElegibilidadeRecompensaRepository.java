@@ -0,0 +1,20 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa;
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa.SituacaoElegibilidade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ElegibilidadeRecompensaRepository extends JpaRepository<ElegibilidadeRecompensa, Long> {
+    
+    /**
+     * Elegibilidades de um mês em uma situação, na ordem em que foram registradas
+     */
+    List<ElegibilidadeRecompensa> findByMesAndSituacaoOrderByIdAsc(LocalDate mes, SituacaoElegibilidade situacao);
+    
+    long countByMesAndSituacao(LocalDate mes, SituacaoElegibilidade situacao);
+}
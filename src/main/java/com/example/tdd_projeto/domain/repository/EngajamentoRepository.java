@@ -3,13 +3,18 @@ package com.example.tdd_projeto.domain.repository;
 import com.example.tdd_projeto.domain.entity.Engajamento;
 import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
 import com.example.tdd_projeto.domain.entity.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EngajamentoRepository extends JpaRepository<Engajamento, Long> {
@@ -19,19 +24,85 @@ public interface EngajamentoRepository extends JpaRepository<Engajamento, Long>
      */
     List<Engajamento> findByUsuario(Usuario usuario);
     
+    /**
+     * Página de engajamentos de um usuário após o último id lido (use 0 na primeira página)
+     */
+    List<Engajamento> findByUsuarioAndIdGreaterThanOrderByIdAsc(Usuario usuario, Long id, Limit limite);
+    
+    /**
+     * Percorre os engajamentos de um usuário sob demanda
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Engajamento> streamByUsuarioOrderByIdAsc(Usuario usuario);
+    
     /**
      * Busca engajamentos por tipo
      */
     List<Engajamento> findByTipo(TipoEngajamento tipo);
     
+    /**
+     * Conta engajamentos de um tipo
+     */
+    long countByTipo(TipoEngajamento tipo);
+    
+    /**
+     * Página de engajamentos de um tipo após o último id lido (use 0 na primeira página)
+     */
+    List<Engajamento> findByTipoAndIdGreaterThanOrderByIdAsc(TipoEngajamento tipo, Long id, Limit limite);
+    
+    /**
+     * Percorre os engajamentos de um tipo sob demanda
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Engajamento> streamByTipoOrderByIdAsc(TipoEngajamento tipo);
+    
     /**
      * Busca engajamentos em um período
      */
     List<Engajamento> findByDataEngajamentoBetween(LocalDateTime inicio, LocalDateTime fim);
     
     /**
-     * Calcula total de pontos de um usuário
+     * Primeira página de engajamentos do período (ordem estável por data e id)
+     */
+    List<Engajamento> findByDataEngajamentoBetweenOrderByDataEngajamentoAscIdAsc(
+        LocalDateTime inicio, LocalDateTime fim, Limit limite);
+    
+    /**
+     * Próxima página do período a partir do último (data, id) lido
+     */
+    @Query("SELECT e FROM Engajamento e WHERE e.dataEngajamento BETWEEN :inicio AND :fim " +
+           "AND (e.dataEngajamento > :data OR (e.dataEngajamento = :data AND e.id > :id)) " +
+           "ORDER BY e.dataEngajamento ASC, e.id ASC")
+    List<Engajamento> findByDataEngajamentoBetweenApos(
+        @Param("inicio") LocalDateTime inicio,
+        @Param("fim") LocalDateTime fim,
+        @Param("data") LocalDateTime data,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Percorre os engajamentos do período sob demanda
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Engajamento> streamByDataEngajamentoBetweenOrderByDataEngajamentoAscIdAsc(
+        LocalDateTime inicio, LocalDateTime fim);
+    
+    /**
+     * Total de pontos de engajamento de um usuário, lido do agregado GERAL
+     * (pontuacoes_periodo) em vez de somar as linhas de engajamentos
      */
-    @Query("SELECT COALESCE(SUM(e.pontos), 0) FROM Engajamento e WHERE e.usuario = :usuario")
+    @Query("SELECT COALESCE(SUM(p.pontos), 0) FROM PontuacaoPeriodo p " +
+           "WHERE p.usuario = :usuario " +
+           "AND p.periodo = com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking.GERAL")
     Integer calcularTotalPontosUsuario(@Param("usuario") Usuario usuario);
 }
\ No newline at end of file
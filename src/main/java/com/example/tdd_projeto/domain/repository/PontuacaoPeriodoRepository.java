@@ -0,0 +1,26 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.PontuacaoPeriodo;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface PontuacaoPeriodoRepository extends JpaRepository<PontuacaoPeriodo, Long> {
+    
+    /**
+     * Busca os pontos de um usuário no período que começa na data informada
+     */
+    @Query("SELECT p.pontos FROM PontuacaoPeriodo p " +
+           "WHERE p.usuario.id = :usuarioId AND p.periodo = :periodo AND p.inicioPeriodo = :inicio")
+    Optional<Integer> findPontos(
+        @Param("usuarioId") Long usuarioId,
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("inicio") LocalDate inicio
+    );
+}
@@ -3,16 +3,31 @@ package com.example.tdd_projeto.domain.repository;
 import com.example.tdd_projeto.domain.entity.Ranking;
 import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
 import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import com.example.tdd_projeto.shared.dto.RankingExportacaoDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RankingRepository extends JpaRepository<Ranking, Long> {
     
+    String SELECT_DTO = "SELECT new com.example.tdd_projeto.shared.dto.RankingDTO(" +
+        "r.id, u.id, u.nome, r.posicao, r.pontuacao, r.variacaoPosicao, r.periodo, r.dataReferencia) " +
+        "FROM Ranking r JOIN r.usuario u ";
+    
+    String SELECT_EXPORTACAO = "SELECT new com.example.tdd_projeto.shared.dto.RankingExportacaoDTO(" +
+        "r.id, r.posicao, r.pontuacao, r.variacaoPosicao, u.id, u.nome, u.email.endereco) " +
+        "FROM Ranking r JOIN r.usuario u ";
+    
     /**
      * Busca rankings de um período ordenados por posição
      */
@@ -27,6 +42,76 @@ public interface RankingRepository extends JpaRepository<Ranking, Long> {
         LocalDate dataReferencia
     );
     
+    /**
+     * Página do snapshot já como DTO ordenada por posição (uma consulta, junção com usuarios)
+     */
+    @Query(SELECT_DTO +
+           "WHERE r.periodo = :periodo AND r.dataReferencia = :dataReferencia " +
+           "ORDER BY r.posicao ASC, r.id ASC")
+    List<RankingDTO> findDTOsByPeriodoAndDataReferencia(
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("dataReferencia") LocalDate dataReferencia,
+        Pageable pagina
+    );
+    
+    /**
+     * Próxima página do snapshot a partir da última (posição, id) lida (paginação por chave)
+     */
+    @Query(SELECT_DTO +
+           "WHERE r.periodo = :periodo AND r.dataReferencia = :dataReferencia " +
+           "AND (r.posicao > :posicao OR (r.posicao = :posicao AND r.id > :id)) " +
+           "ORDER BY r.posicao ASC, r.id ASC")
+    List<RankingDTO> findDTOsByPeriodoAndDataReferenciaApos(
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("dataReferencia") LocalDate dataReferencia,
+        @Param("posicao") Integer posicao,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Linhas de exportação do snapshot após a (posição, id) informada; para a
+     * primeira página use posição 0 e id 0
+     */
+    @Query(SELECT_EXPORTACAO +
+           "WHERE r.periodo = :periodo AND r.dataReferencia = :dataReferencia " +
+           "AND (r.posicao > :posicao OR (r.posicao = :posicao AND r.id > :id)) " +
+           "ORDER BY r.posicao ASC, r.id ASC")
+    List<RankingExportacaoDTO> findExportacaoByPeriodoAndDataReferenciaApos(
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("dataReferencia") LocalDate dataReferencia,
+        @Param("posicao") Integer posicao,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Ranking de um usuário em um período já como DTO
+     */
+    @Query(SELECT_DTO +
+           "WHERE u.id = :usuarioId AND r.periodo = :periodo AND r.dataReferencia = :dataReferencia")
+    Optional<RankingDTO> findDTOByUsuarioIdAndPeriodoAndDataReferencia(
+        @Param("usuarioId") Long usuarioId,
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("dataReferencia") LocalDate dataReferencia
+    );
+    
+    /**
+     * Data de referência do snapshot mais recente do período
+     */
+    @Query("SELECT MAX(r.dataReferencia) FROM Ranking r WHERE r.periodo = :periodo")
+    Optional<LocalDate> findUltimaDataReferencia(@Param("periodo") PeriodoRanking periodo);
+    
+    /**
+     * Momento em que o snapshot do período foi calculado
+     */
+    @Query("SELECT MAX(r.dataCalculo) FROM Ranking r " +
+           "WHERE r.periodo = :periodo AND r.dataReferencia = :dataReferencia")
+    Optional<LocalDateTime> findDataCalculo(
+        @Param("periodo") PeriodoRanking periodo,
+        @Param("dataReferencia") LocalDate dataReferencia
+    );
+    
     /**
      * Busca todos os rankings de um usuário
      */
@@ -0,0 +1,18 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.Usuario;
+
+import java.util.Optional;
+
+/**
+ * Busca de usuário pelo id natural (email).
+ */
+public interface UsuarioNaturalIdRepository {
+
+    /**
+     * Busca usuário pelo email usando o id natural da entidade. Com o cache de segundo
+     * nível habilitado, email → id e id → usuário vêm do cache, sem consultar o banco.
+     * Email em formato inválido não corresponde a nenhum usuário.
+     */
+    Optional<Usuario> buscarPorEmail(String endereco);
+}
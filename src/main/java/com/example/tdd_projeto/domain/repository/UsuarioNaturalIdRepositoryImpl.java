@@ -0,0 +1,33 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementação do fragmento {@link UsuarioNaturalIdRepository}, combinada pelo Spring Data ao UsuarioRepository.
+ */
+class UsuarioNaturalIdRepositoryImpl implements UsuarioNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Usuario> buscarPorEmail(String endereco) {
+        Email email;
+        try {
+            email = Email.canonico(endereco);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Usuario.class)
+                .loadOptional(email);
+    }
+}
@@ -2,23 +2,37 @@ package com.example.tdd_projeto.domain.repository;
 
 import com.example.tdd_projeto.domain.entity.Usuario;
 import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.UsuarioDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório de Usuários.
  * Interface que o Spring Data JPA implementa automaticamente.
  */
 @Repository
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends JpaRepository<Usuario, Long>, UsuarioNaturalIdRepository {
+    
+    String SELECT_DTO = "SELECT new com.example.tdd_projeto.shared.dto.UsuarioDTO(" +
+        "u.id, u.nome, u.email.endereco, u.pontuacaoTotal, u.dataCadastro, u.ativo) FROM Usuario u ";
     
     /**
-     * Busca usuário por email
+     * Busca usuário por email (resultado guardado no cache de consultas, se habilitado)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Usuario.REGIAO_CONSULTAS)
+    })
     Optional<Usuario> findByEmail_Endereco(String endereco);
     
     /**
@@ -32,6 +46,64 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     @Query("SELECT u FROM Usuario u WHERE u.ativo = true ORDER BY u.pontuacaoTotal DESC")
     List<Usuario> findTopUsuariosByPontuacao();
     
+    /**
+     * Primeira página do ranking (ordem estável por pontuação e id)
+     */
+    @Query("SELECT u FROM Usuario u WHERE u.ativo = true ORDER BY u.pontuacaoTotal DESC, u.id ASC")
+    List<Usuario> findTopUsuariosByPontuacao(Limit limite);
+    
+    /**
+     * Próxima página do ranking a partir do último (pontuação, id) lido (paginação por chave)
+     */
+    @Query("SELECT u FROM Usuario u WHERE u.ativo = true " +
+           "AND (u.pontuacaoTotal < :pontuacao OR (u.pontuacaoTotal = :pontuacao AND u.id > :id)) " +
+           "ORDER BY u.pontuacaoTotal DESC, u.id ASC")
+    List<Usuario> findTopUsuariosByPontuacaoApos(
+        @Param("pontuacao") Integer pontuacao,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
+    /**
+     * Percorre o ranking inteiro sob demanda (usar dentro de uma transação e fechar o Stream)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM Usuario u WHERE u.ativo = true ORDER BY u.pontuacaoTotal DESC, u.id ASC")
+    Stream<Usuario> streamTopUsuariosByPontuacao();
+    
+    /**
+     * Usuário já como DTO
+     */
+    @Query(SELECT_DTO + "WHERE u.id = :id")
+    Optional<UsuarioDTO> findDTOById(@Param("id") Long id);
+    
+    /**
+     * Usuário já como DTO, buscado pelo email
+     */
+    @Query(SELECT_DTO + "WHERE u.email.endereco = :endereco")
+    Optional<UsuarioDTO> findDTOByEmail(@Param("endereco") String endereco);
+    
+    /**
+     * Primeira página do ranking de usuários como DTO
+     */
+    @Query(SELECT_DTO + "WHERE u.ativo = true ORDER BY u.pontuacaoTotal DESC, u.id ASC")
+    List<UsuarioDTO> findDTOsTopByPontuacao(Limit limite);
+    
+    /**
+     * Próxima página do ranking de usuários como DTO a partir do último (pontuação, id) lido
+     */
+    @Query(SELECT_DTO + "WHERE u.ativo = true " +
+           "AND (u.pontuacaoTotal < :pontuacao OR (u.pontuacaoTotal = :pontuacao AND u.id > :id)) " +
+           "ORDER BY u.pontuacaoTotal DESC, u.id ASC")
+    List<UsuarioDTO> findDTOsTopByPontuacaoApos(
+        @Param("pontuacao") Integer pontuacao,
+        @Param("id") Long id,
+        Limit limite
+    );
+    
     /**
      * Conta quantos usuários têm pontuação maior que o valor informado
      */
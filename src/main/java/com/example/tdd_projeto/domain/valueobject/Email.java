@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 
 /**
@@ -22,9 +23,15 @@ import java.util.regex.Pattern;
 @ToString
 public class Email {
     
-    private static final Pattern EMAIL_PATTERN = 
+    /**
+     * Linguagem aceita pelo validador; mantida como referência para os testes diferenciais
+     */
+    static final Pattern EMAIL_PATTERN = 
         Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
     
+    private static final int TAMANHO_CACHE = 4096; // potência de 2
+    private static final AtomicReferenceArray<Email> CACHE = new AtomicReferenceArray<>(TAMANHO_CACHE);
+    
     @NotBlank(message = "Email não pode ser vazio")
     private String endereco;
     
@@ -36,12 +43,91 @@ public class Email {
         return new Email(endereco);
     }
     
+    /**
+     * Como {@link #de(String)}, mas devolve a instância canônica de endereços recentes.
+     * Cache limitado de mapeamento direto: cada endereço ocupa uma posição pelo hash
+     * e uma colisão apenas substitui a instância anterior.
+     */
+    public static Email canonico(String endereco) {
+        if (endereco != null) {
+            int posicao = endereco.hashCode() & (TAMANHO_CACHE - 1);
+            Email emCache = CACHE.get(posicao);
+            if (emCache != null && emCache.endereco.equals(endereco)) {
+                return emCache;
+            }
+            Email novo = de(endereco);
+            CACHE.set(posicao, novo);
+            return novo;
+        }
+        return de(endereco);
+    }
+    
     private static void validar(String endereco) {
-        if (endereco == null || endereco.trim().isEmpty()) {
+        if (endereco == null || vazio(endereco)) {
             throw new IllegalArgumentException("Email não pode ser vazio");
         }
-        if (!EMAIL_PATTERN.matcher(endereco).matches()) {
+        if (!formatoValido(endereco)) {
             throw new IllegalArgumentException("Email inválido: " + endereco);
         }
     }
+    
+    /**
+     * Equivalente a {@code endereco.trim().isEmpty()} sem criar uma nova String
+     */
+    private static boolean vazio(String endereco) {
+        for (int i = 0; i < endereco.length(); i++) {
+            if (endereco.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Validação em uma única passada, aceitando exatamente a mesma linguagem de EMAIL_PATTERN:
+     * parte local com [A-Za-z0-9+_.-], um único '@' e domínio com [A-Za-z0-9.-] terminado
+     * em '.' seguido de pelo menos duas letras.
+     */
+    static boolean formatoValido(String endereco) {
+        int arroba = -1;
+        int ultimoPonto = -1;
+        int letrasAposPonto = 0; // -1 quando há algo além de letras depois do último ponto
+        for (int i = 0; i < endereco.length(); i++) {
+            char c = endereco.charAt(i);
+            if (arroba < 0) {
+                if (c == '@') {
+                    if (i == 0) {
+                        return false;
+                    }
+                    arroba = i;
+                } else if (!alfanumerico(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                ultimoPonto = i;
+                letrasAposPonto = 0;
+            } else if (letra(c)) {
+                if (letrasAposPonto >= 0) {
+                    letrasAposPonto++;
+                }
+            } else if (digito(c) || c == '-') {
+                letrasAposPonto = -1;
+            } else {
+                return false;
+            }
+        }
+        return arroba > 0 && ultimoPonto > arroba + 1 && letrasAposPonto >= 2;
+    }
+    
+    private static boolean letra(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+    
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean alfanumerico(char c) {
+        return letra(c) || digito(c);
+    }
 }
\ No newline at end of file
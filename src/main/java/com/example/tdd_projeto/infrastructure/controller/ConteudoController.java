@@ -0,0 +1,34 @@
+package com.example.tdd_projeto.infrastructure.controller;
+
+import com.example.tdd_projeto.application.service.VisualizacaoContadorService;
+import com.example.tdd_projeto.shared.dto.ConteudoDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints de leitura de conteúdos.
+ *
+ * Ler um conteúdo conta uma visualização, agrupada em memória pelo
+ * VisualizacaoContadorService em vez de regravar a linha a cada acesso.
+ */
+@RestController
+@RequestMapping("/conteudos")
+public class ConteudoController {
+
+    private final VisualizacaoContadorService visualizacoes;
+
+    public ConteudoController(VisualizacaoContadorService visualizacoes) {
+        this.visualizacoes = visualizacoes;
+    }
+
+    /**
+     * Conteúdo completo, com as visualizações atuais
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ConteudoDTO> buscar(@PathVariable Long id) {
+        return ResponseEntity.of(visualizacoes.visualizar(id));
+    }
+}
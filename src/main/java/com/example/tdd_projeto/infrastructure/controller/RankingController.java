@@ -0,0 +1,203 @@
+package com.example.tdd_projeto.infrastructure.controller;
+
+import com.example.tdd_projeto.application.service.RankingConsultaService;
+import com.example.tdd_projeto.application.service.RankingExportacaoService;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoints de leitura do ranking.
+ *
+ * As respostas levam ETag e Last-Modified derivados do momento de cálculo do
+ * snapshot; um cliente que repete a consulta recebe 304 sem que o ranking seja lido.
+ * A consulta de um usuário leva só a ETag: os pontos dela são os atuais, não os do
+ * snapshot, então a data de cálculo não serve como Last-Modified.
+ * Sem o parâmetro "pagina" o ranking inteiro é escrito em fluxo, página a página.
+ * A exportação (CSV ou NDJSON, com gzip opcional) também é escrita em fluxo.
+ */
+@RestController
+@RequestMapping("/rankings")
+public class RankingController {
+
+    private final RankingConsultaService consultaService;
+    private final RankingExportacaoService exportacaoService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritor;
+
+    public RankingController(RankingConsultaService consultaService,
+                             RankingExportacaoService exportacaoService,
+                             ObjectMapper objectMapper) {
+        this.consultaService = consultaService;
+        this.exportacaoService = exportacaoService;
+        this.objectMapper = objectMapper;
+        // A descarga é feita por página, não a cada item
+        this.escritor = objectMapper.writerFor(RankingDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Ranking do período; "data" padrão é o snapshot mais recente
+     */
+    @GetMapping("/{periodo}")
+    public ResponseEntity<StreamingResponseBody> listar(
+            @PathVariable PeriodoRanking periodo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            @RequestParam(required = false) Integer pagina,
+            WebRequest request) {
+        // Validada antes do fluxo: depois dele o status 200 já foi enviado
+        if (pagina != null && pagina < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<LocalDate> dataReferencia = data != null
+                ? Optional.of(data)
+                : consultaService.ultimaDataReferencia(periodo);
+        Optional<LocalDateTime> calculo = dataReferencia.flatMap(d -> consultaService.dataCalculo(periodo, d));
+        if (calculo.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        LocalDate referencia = dataReferencia.get();
+        String etag = etag(periodo, referencia, calculo.get(), pagina != null ? "p" + pagina : "todos");
+        long ultimaModificacao = epochMillis(calculo.get());
+        if (request.checkNotModified(etag, ultimaModificacao)) {
+            return naoModificado(etag, ultimaModificacao);
+        }
+
+        StreamingResponseBody corpo = pagina != null
+                ? saida -> escrever(saida, gerador -> escreverPagina(gerador,
+                        consultaService.listar(periodo, referencia, pagina)))
+                : saida -> escrever(saida, gerador -> consultaService.percorrer(periodo, referencia,
+                        dtos -> escreverPagina(gerador, dtos)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .lastModified(ultimaModificacao)
+                .body(corpo);
+    }
+
+    /**
+     * Posição e pontos de um usuário no período
+     */
+    @GetMapping("/{periodo}/usuarios/{usuarioId}")
+    public ResponseEntity<RankingDTO> buscarDoUsuario(
+            @PathVariable PeriodoRanking periodo,
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            WebRequest request) {
+        Optional<LocalDate> dataReferencia = data != null
+                ? Optional.of(data)
+                : consultaService.ultimaDataReferencia(periodo);
+        Optional<LocalDateTime> calculo = dataReferencia.flatMap(d -> consultaService.dataCalculo(periodo, d));
+        Optional<RankingDTO> ranking = calculo.flatMap(c ->
+                consultaService.buscarDoUsuario(usuarioId, periodo, dataReferencia.get()));
+        if (ranking.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Os pontos do usuário mudam entre snapshots, então entram na ETag
+        String etag = etag(periodo, dataReferencia.get(), calculo.get(),
+                "u" + usuarioId + "-" + ranking.get().getPontuacao());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ranking.get());
+    }
+
+    /**
+     * Snapshot inteiro como arquivo para download; "data" padrão é o snapshot mais recente
+     */
+    @GetMapping("/{periodo}/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @PathVariable PeriodoRanking periodo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+            @RequestParam(defaultValue = "CSV") RankingExportacaoService.Formato formato,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        Optional<LocalDate> dataReferencia = data != null
+                ? Optional.of(data)
+                : consultaService.ultimaDataReferencia(periodo);
+        if (dataReferencia.flatMap(d -> consultaService.dataCalculo(periodo, d)).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        LocalDate referencia = dataReferencia.get();
+        String nome = "ranking-" + periodo + "-" + referencia + "." + formato.getExtensao() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(formato.getTipoConteudo() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nome).build().toString())
+                .body(saida -> exportacaoService.exportar(periodo, referencia, formato, gzip, saida));
+    }
+
+    private void escrever(OutputStream saida, EscritaJson escrita) throws IOException {
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.writeStartArray();
+            try {
+                escrita.escrever(gerador);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            gerador.writeEndArray();
+        }
+    }
+
+    private void escreverPagina(JsonGenerator gerador, List<RankingDTO> dtos) {
+        try {
+            for (RankingDTO dto : dtos) {
+                escritor.writeValue(gerador, dto);
+            }
+            // Envia a página ao cliente antes de ler a próxima
+            gerador.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> ResponseEntity<T> naoModificado(String etag, long ultimaModificacao) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .lastModified(ultimaModificacao)
+                .build();
+    }
+
+    private static String etag(PeriodoRanking periodo, LocalDate dataReferencia, LocalDateTime calculo, String variante) {
+        return "\"" + periodo + "-" + dataReferencia + "-" + epochMillis(calculo) + "-" + variante + "\"";
+    }
+
+    private static long epochMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @FunctionalInterface
+    private interface EscritaJson {
+        void escrever(JsonGenerator gerador);
+    }
+}
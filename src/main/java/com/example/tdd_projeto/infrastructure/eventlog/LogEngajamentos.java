@@ -0,0 +1,292 @@
+package com.example.tdd_projeto.infrastructure.eventlog;
+
+import com.example.tdd_projeto.application.event.EngajamentosGravadosEvent;
+import com.example.tdd_projeto.application.event.EngajamentosRemovidosEvent;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log binário, somente de acréscimo, dos engajamentos gravados.
+ *
+ * Cada registro tem tamanho fixo ({@value #TAMANHO_REGISTRO} bytes, little-endian):
+ * id do engajamento (long), usuarioId (long), conteudoId (long, 0 quando ausente),
+ * data do engajamento em epoch millis (long), ordinal do tipo (int), pontos (int) e
+ * o CRC32C dos 40 bytes anteriores (int). O id permite conferir o log com a tabela
+ * engajamentos antes de reconstruir algo a partir dele. A data é a hora local gravada como se fosse UTC, para voltar
+ * exatamente ao LocalDateTime do banco.
+ *
+ * Remoções são gravadas como registros de estorno (tombstones): os mesmos campos do
+ * engajamento removido, com o bit {@value #REMOCAO} somado ao tipo. A leitura entrega
+ * esses registros com os pontos negativos, então somar o log desconta o que foi removido.
+ *
+ * Os registros são escritos em segmentos mapeados em memória com um número fixo
+ * de registros; ao encher um segmento o próximo é criado. O nome do arquivo é a
+ * sequência do seu primeiro registro, então a ordem dos nomes é a ordem do log.
+ * O fim dos dados de um segmento é o primeiro registro cujo CRC não confere: a
+ * parte não escrita do arquivo é zerada, e um registro pela metade (queda durante
+ * a escrita) é descartado e sobrescrito quando o log é reaberto.
+ *
+ * Os novos tipos de engajamento devem ser acrescentados ao fim do enum, pois o
+ * ordinal faz parte do formato.
+ */
+@Component
+@ConditionalOnProperty(name = "engajamento.log.habilitado", havingValue = "true")
+public class LogEngajamentos implements Closeable {
+
+    public static final int TAMANHO_REGISTRO = 44;
+    private static final int TAMANHO_DADOS = 40;
+    static final int REMOCAO = 0x100;
+    private static final String EXTENSAO = ".log";
+
+    private static final TipoEngajamento[] TIPOS = TipoEngajamento.values();
+
+    private final Path diretorio;
+    private final int registrosPorSegmento;
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel canal;
+    private MappedByteBuffer segmento;
+    private long inicioSegmento;
+    private long proximaSequencia;
+
+    @Autowired
+    public LogEngajamentos(
+            @Value("${engajamento.log.diretorio:data/engajamentos-log}") Path diretorio,
+            @Value("${engajamento.log.registros-por-segmento:1048576}") int registrosPorSegmento) {
+        if (registrosPorSegmento <= 0) {
+            throw new IllegalArgumentException("Configuração do log de engajamentos inválida");
+        }
+        this.diretorio = diretorio;
+        this.registrosPorSegmento = registrosPorSegmento;
+        try {
+            Files.createDirectories(diretorio);
+            List<Path> segmentos = segmentos(diretorio);
+            if (segmentos.isEmpty()) {
+                abrirSegmento(0);
+            } else {
+                // Retoma o último segmento a partir do primeiro registro inválido
+                Path ultimo = segmentos.get(segmentos.size() - 1);
+                abrirSegmento(sequencia(ultimo));
+                int validos = 0;
+                while (validos < registrosPorSegmento && valido(segmento, validos * TAMANHO_REGISTRO, crc)) {
+                    validos++;
+                }
+                segmento.position(validos * TAMANHO_REGISTRO);
+                proximaSequencia = inicioSegmento + validos;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o log de engajamentos em " + diretorio, e);
+        }
+    }
+
+    /**
+     * Acrescenta o lote depois do commit, para que o log só contenha engajamentos gravados
+     */
+    @TransactionalEventListener
+    public void aoGravarEngajamentos(EngajamentosGravadosEvent evento) {
+        anexar(evento.getEngajamentos());
+    }
+
+    /**
+     * Acrescenta os estornos das remoções depois do commit
+     */
+    @TransactionalEventListener
+    public void aoRemoverEngajamentos(EngajamentosRemovidosEvent evento) {
+        anexarRemocoes(evento.getEngajamentos());
+    }
+
+    /**
+     * Acrescenta os engajamentos e força a escrita em disco antes de retornar
+     */
+    public void anexar(List<EngajamentoDTO> engajamentos) {
+        anexar(engajamentos, 0);
+    }
+
+    /**
+     * Acrescenta estornos dos engajamentos removidos e força a escrita em disco
+     */
+    public void anexarRemocoes(List<EngajamentoDTO> engajamentos) {
+        anexar(engajamentos, REMOCAO);
+    }
+
+    private synchronized void anexar(List<EngajamentoDTO> engajamentos, int marca) {
+        try {
+            for (EngajamentoDTO engajamento : engajamentos) {
+                if (!segmento.hasRemaining()) {
+                    segmento.force();
+                    abrirSegmento(proximaSequencia);
+                }
+                escrever(engajamento, marca);
+                proximaSequencia++;
+            }
+            segmento.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever no log de engajamentos", e);
+        }
+    }
+
+    /**
+     * Sequência que o próximo registro receberá (= total de registros no log)
+     */
+    public synchronized long getProximaSequencia() {
+        return proximaSequencia;
+    }
+
+    public Path getDiretorio() {
+        return diretorio;
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void close() throws IOException {
+        if (canal != null) {
+            segmento.force();
+            canal.close();
+            canal = null;
+        }
+    }
+
+    /**
+     * Percorre os registros do log em ordem a partir da sequência informada e
+     * retorna quantos foram visitados. Um registro inválido no último segmento marca
+     * o fim do log; em um segmento anterior indica corrupção.
+     */
+    public static long ler(Path diretorio, long aPartirDe, Visitante visitante) {
+        long visitados = 0;
+        CRC32C crc = new CRC32C();
+        try {
+            List<Path> segmentos = segmentos(diretorio);
+            for (int i = 0; i < segmentos.size(); i++) {
+                Path arquivo = segmentos.get(i);
+                boolean ultimo = i == segmentos.size() - 1;
+                long inicio = sequencia(arquivo);
+                try (FileChannel leitura = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                    ByteBuffer dados = leitura.map(FileChannel.MapMode.READ_ONLY, 0, leitura.size())
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                    int registros = (int) (leitura.size() / TAMANHO_REGISTRO);
+                    int primeiro = (int) Math.max(0, Math.min(registros, aPartirDe - inicio));
+                    for (int r = primeiro; r < registros; r++) {
+                        int posicao = r * TAMANHO_REGISTRO;
+                        if (!valido(dados, posicao, crc)) {
+                            // Segmentos anteriores ao último só são fechados cheios
+                            if (!ultimo) {
+                                throw new IllegalStateException("Registro corrompido no segmento " + arquivo
+                                        + ", posição " + r);
+                            }
+                            break;
+                        }
+                        int tipo = dados.getInt(posicao + 32);
+                        int pontos = dados.getInt(posicao + 36);
+                        visitante.visitar(
+                                dados.getLong(posicao),
+                                dados.getLong(posicao + 8),
+                                dados.getLong(posicao + 16),
+                                TIPOS[tipo & ~REMOCAO],
+                                (tipo & REMOCAO) != 0,
+                                (tipo & REMOCAO) != 0 ? -pontos : pontos,
+                                dados.getLong(posicao + 24));
+                        visitados++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o log de engajamentos em " + diretorio, e);
+        }
+        return visitados;
+    }
+
+    /**
+     * Converte o epoch millis do registro de volta para a data do engajamento
+     */
+    public static LocalDateTime dataHora(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private void escrever(EngajamentoDTO engajamento, int marca) {
+        int posicao = segmento.position();
+        LocalDateTime data = engajamento.getDataEngajamento();
+        segmento.putLong(engajamento.getId() != null ? engajamento.getId() : 0L);
+        segmento.putLong(engajamento.getUsuarioId());
+        segmento.putLong(engajamento.getConteudoId() != null ? engajamento.getConteudoId() : 0L);
+        segmento.putLong(data.toInstant(ZoneOffset.UTC).toEpochMilli());
+        segmento.putInt(TipoEngajamento.valueOf(engajamento.getTipo()).ordinal() | marca);
+        segmento.putInt(engajamento.getPontos());
+        segmento.putInt(crc(segmento, posicao));
+    }
+
+    private void abrirSegmento(long sequencia) throws IOException {
+        if (canal != null) {
+            canal.close();
+        }
+        Path arquivo = diretorio.resolve(String.format("%020d%s", sequencia, EXTENSAO));
+        canal = FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segmento = canal.map(FileChannel.MapMode.READ_WRITE, 0, (long) registrosPorSegmento * TAMANHO_REGISTRO);
+        segmento.order(ByteOrder.LITTLE_ENDIAN);
+        inicioSegmento = sequencia;
+        proximaSequencia = sequencia;
+    }
+
+    private int crc(ByteBuffer dados, int posicao) {
+        return crc(dados, posicao, crc);
+    }
+
+    private static int crc(ByteBuffer dados, int posicao, CRC32C crc) {
+        crc.reset();
+        crc.update(dados.slice(posicao, TAMANHO_DADOS));
+        return (int) crc.getValue();
+    }
+
+    private static boolean valido(ByteBuffer dados, int posicao, CRC32C crc) {
+        int tipo = dados.getInt(posicao + 32) & ~REMOCAO;
+        return dados.getInt(posicao + TAMANHO_DADOS) == crc(dados, posicao, crc)
+                && tipo >= 0 && tipo < TIPOS.length;
+    }
+
+    private static List<Path> segmentos(Path diretorio) throws IOException {
+        if (!Files.isDirectory(diretorio)) {
+            return List.of();
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(p -> p.getFileName().toString().endsWith(EXTENSAO)).sorted().toList();
+        }
+    }
+
+    private static long sequencia(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        return Long.parseLong(nome.substring(0, nome.length() - EXTENSAO.length()));
+    }
+
+    /**
+     * Recebe os campos de cada registro sem criar objetos por registro
+     * (nos estornos de remoção, "remocao" é verdadeiro e os pontos são negativos)
+     */
+    @FunctionalInterface
+    public interface Visitante {
+        void visitar(long engajamentoId, long usuarioId, long conteudoId, TipoEngajamento tipo, boolean remocao,
+                     int pontos, long epochMillis);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.tdd_projeto.infrastructure.eventlog;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconstrói a pontuação a partir do log binário de engajamentos, sem ler a
+ * tabela engajamentos. Os registros são somados por usuário e por dia em uma
+ * única passada sequencial pelos segmentos; os agregados por período são
+ * derivados das somas diárias.
+ *
+ * O log é escrito depois do commit, então pode faltar um registro (queda entre o
+ * commit e a escrita) ou o log pode ter sido ligado depois do início da base.
+ * Antes de regravar os agregados, a quantidade, a soma dos ids e a soma dos pontos
+ * dos engajamentos vivos no log são conferidas com a tabela; se divergirem, a
+ * reconstrução é recusada e nada é alterado. O trecho final do log, a conferência
+ * e a regravação rodam entre dois lotes da ingestão.
+ */
+@Component
+@ConditionalOnProperty(name = "engajamento.log.habilitado", havingValue = "true")
+public class ReprocessadorLogEngajamentos {
+
+    private static final Logger log = LoggerFactory.getLogger(ReprocessadorLogEngajamentos.class);
+
+    private static final long MILLIS_POR_DIA = TimeUnit.DAYS.toMillis(1);
+
+    private static final String SQL_CONFERENCIA =
+        "SELECT COUNT(*), COALESCE(SUM(id), 0), COALESCE(SUM(pontos), 0) FROM engajamentos";
+
+    private final LogEngajamentos logEngajamentos;
+    private final PontuacaoPeriodoService pontuacaoPeriodoService;
+    private final EngajamentoIngestaoService ingestao;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReprocessadorLogEngajamentos(LogEngajamentos logEngajamentos,
+                                        PontuacaoPeriodoService pontuacaoPeriodoService,
+                                        EngajamentoIngestaoService ingestao,
+                                        JdbcTemplate jdbcTemplate) {
+        this.logEngajamentos = logEngajamentos;
+        this.pontuacaoPeriodoService = pontuacaoPeriodoService;
+        this.ingestao = ingestao;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Regrava pontuacoes_periodo com os agregados calculados a partir do log.
+     * Lança IllegalStateException, sem alterar nada, se o log não confere com a tabela.
+     */
+    public Agregados reconstruir() {
+        long inicio = System.nanoTime();
+        Path diretorio = logEngajamentos.getDiretorio();
+        // A maior parte do log é lida sem bloquear a ingestão
+        Soma soma = new Soma();
+        LogEngajamentos.ler(diretorio, 0, soma);
+        long leitura = System.nanoTime() - inicio;
+        ingestao.entreLotes(() -> {
+            LogEngajamentos.ler(diretorio, soma.registros, soma);
+            conferir(soma);
+            pontuacaoPeriodoService.reconstruir(soma.somasDiarias);
+            return null;
+        });
+        log.info("Pontuação reconstruída a partir de {} registros do log ({} ms de leitura, {} ms no total)",
+                soma.registros, TimeUnit.NANOSECONDS.toMillis(leitura),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return soma.agregados();
+    }
+
+    /**
+     * Soma os pontos do log por usuário e por usuário e dia
+     */
+    public static Agregados agregar(Path diretorio) {
+        Soma soma = new Soma();
+        LogEngajamentos.ler(diretorio, 0, soma);
+        return soma.agregados();
+    }
+
+    private void conferir(Soma soma) {
+        long[] tabela = jdbcTemplate.queryForObject(SQL_CONFERENCIA,
+                (rs, linha) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+        if (tabela[0] != soma.vivos || tabela[1] != soma.somaIds || tabela[2] != soma.somaPontos) {
+            throw new IllegalStateException(String.format(
+                    "Log de engajamentos não confere com a tabela (log: %d engajamentos, %d pontos; "
+                            + "tabela: %d engajamentos, %d pontos); reconstrução recusada",
+                    soma.vivos, soma.somaPontos, tabela[0], tabela[2]));
+        }
+    }
+
+    /**
+     * Acumula uma passada pelo log; pode continuar de onde parou
+     */
+    private static final class Soma implements LogEngajamentos.Visitante {
+        private final Map<Long, Integer> totais = new HashMap<>();
+        private final Map<Long, Map<LocalDate, Integer>> somasDiarias = new HashMap<>();
+        // Registros chegam em ordem aproximada de data: reaproveita o último LocalDate
+        private long ultimoDia = Long.MIN_VALUE;
+        private LocalDate data;
+        private long registros;
+        private long vivos;
+        private long somaIds;
+        private long somaPontos;
+
+        @Override
+        public void visitar(long engajamentoId, long usuarioId, long conteudoId, TipoEngajamento tipo,
+                            boolean remocao, int pontos, long epochMillis) {
+            long dia = Math.floorDiv(epochMillis, MILLIS_POR_DIA);
+            if (dia != ultimoDia) {
+                ultimoDia = dia;
+                data = LocalDate.ofEpochDay(dia);
+            }
+            totais.merge(usuarioId, pontos, Integer::sum);
+            somasDiarias.computeIfAbsent(usuarioId, id -> new HashMap<>()).merge(data, pontos, Integer::sum);
+            registros++;
+            vivos += remocao ? -1 : 1;
+            somaIds += remocao ? -engajamentoId : engajamentoId;
+            somaPontos += pontos;
+        }
+
+        private Agregados agregados() {
+            return new Agregados(registros, totais, somasDiarias);
+        }
+    }
+
+    /**
+     * Resultado de uma passada pelo log
+     */
+    public static final class Agregados {
+        private final long registros;
+        private final Map<Long, Integer> totais;
+        private final Map<Long, Map<LocalDate, Integer>> somasDiarias;
+
+        private Agregados(long registros, Map<Long, Integer> totais, Map<Long, Map<LocalDate, Integer>> somasDiarias) {
+            this.registros = registros;
+            this.totais = totais;
+            this.somasDiarias = somasDiarias;
+        }
+
+        public long getRegistros() { return registros; }
+
+        /** Pontos de engajamento por usuário */
+        public Map<Long, Integer> getTotais() { return totais; }
+
+        /** Pontos por usuário e dia */
+        public Map<Long, Map<LocalDate, Integer>> getSomasDiarias() { return somasDiarias; }
+    }
+}
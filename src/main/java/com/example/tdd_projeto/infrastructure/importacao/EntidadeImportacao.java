@@ -0,0 +1,17 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+/**
+ * Tabelas que podem ser carregadas pela importação em massa. Campos de cada uma
+ * (cabeçalho do CSV ou chaves do objeto NDJSON; os opcionais entre colchetes):
+ * <ul>
+ *   <li>USUARIOS: nome, email, [ativo], [data_cadastro]; a pontuação vem dos engajamentos
+ *       importados, e um campo pontuacao_total no arquivo é ignorado</li>
+ *   <li>CONTEUDOS: autor_email, titulo, texto, tipo, [visualizacoes], [data_publicacao]</li>
+ *   <li>ENGAJAMENTOS: usuario_email, [conteudo_id], tipo, [pontos], [data_engajamento]</li>
+ * </ul>
+ */
+public enum EntidadeImportacao {
+    USUARIOS,
+    CONTEUDOS,
+    ENGAJAMENTOS
+}
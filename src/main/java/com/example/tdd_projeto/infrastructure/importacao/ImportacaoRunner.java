@@ -0,0 +1,52 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Executa uma importação ao subir a aplicação quando "importacao.arquivo" é informado,
+ * por exemplo:
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.profiles=persistente \
+ *     -Dspring-boot.run.arguments="--importacao.arquivo=engajamentos.csv --importacao.entidade=ENGAJAMENTOS"
+ * </pre>
+ * Por padrão a aplicação encerra ao final; em caso de falha, basta rodar o mesmo
+ * comando de novo para continuar de onde parou.
+ */
+@Component
+@ConditionalOnProperty(name = "importacao.arquivo")
+public class ImportacaoRunner implements ApplicationRunner {
+
+    private final ImportadorDados importador;
+    private final ConfigurableApplicationContext contexto;
+    private final Path arquivo;
+    private final EntidadeImportacao entidade;
+    private final boolean encerrar;
+
+    public ImportacaoRunner(ImportadorDados importador,
+                            ConfigurableApplicationContext contexto,
+                            @Value("${importacao.arquivo}") Path arquivo,
+                            @Value("${importacao.entidade}") EntidadeImportacao entidade,
+                            @Value("${importacao.encerrar-ao-final:true}") boolean encerrar) {
+        this.importador = importador;
+        this.contexto = contexto;
+        this.arquivo = arquivo;
+        this.entidade = entidade;
+        this.encerrar = encerrar;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        importador.importar(entidade, arquivo);
+        if (encerrar) {
+            System.exit(SpringApplication.exit(contexto, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+import com.example.tdd_projeto.application.event.PontuacaoAlteradaEvent;
+import com.example.tdd_projeto.application.service.CacheSegundoNivel;
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.GravadorLoteEngajamentos;
+import com.example.tdd_projeto.application.service.JanelaDeslizanteService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Importação em massa de usuários, conteúdos e engajamentos a partir de arquivos
+ * CSV ou NDJSON (ver {@link EntidadeImportacao} para os campos).
+ *
+ * Uma thread lê, converte e valida os registros e entrega lotes por uma fila
+ * limitada; quem chamou {@link #importar} resolve as chaves estrangeiras (emails
+ * → ids, com cache limitado) e grava cada lote com JDBC batch em uma transação.
+ * A memória usada depende do tamanho do lote e da fila, não do arquivo.
+ *
+ * O número de registros já consumidos de cada arquivo é gravado na tabela
+ * importacoes na mesma transação do lote; rodar de novo a importação do mesmo
+ * arquivo continua do primeiro registro não gravado. Registros inválidos ou com
+ * referência inexistente são rejeitados (e contados) sem interromper a importação.
+ *
+ * Usuários entram com pontuação zero: a pontuação total é a soma dos pontos dos
+ * engajamentos, que a importação de engajamentos acrescenta.
+ */
+@Service
+public class ImportadorDados {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportadorDados.class);
+
+    private static final int REJEICOES_NO_LOG = 100;
+
+    private static final String SQL_PROGRESSO =
+        "SELECT registros, rejeitados FROM importacoes WHERE arquivo = ? AND entidade = ?";
+
+    private static final String SQL_GRAVAR_PROGRESSO =
+        "MERGE INTO importacoes (arquivo, entidade, registros, rejeitados, atualizado_em) KEY (arquivo, entidade) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_USUARIO =
+        "INSERT INTO usuarios (nome, email, pontuacao_total, ativo, data_cadastro) VALUES (?, ?, 0, ?, ?)";
+
+    private static final String SQL_INSERIR_CONTEUDO =
+        "INSERT INTO conteudos (autor_id, titulo, texto, tipo, visualizacoes, data_publicacao) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GravadorLoteEngajamentos gravador;
+    private final EngajamentoIngestaoService ingestao;
+    private final CacheSegundoNivel cacheSegundoNivel;
+    private final PlacarRanking placar;
+    private final JanelaDeslizanteService janelas;
+    private final ApplicationEventPublisher eventos;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+    private final int capacidadeFila;
+    private final long tamanhoCacheEmails;
+    private final long intervaloLogMs;
+    private final AtomicLong rejeicoesNoLog = new AtomicLong();
+
+    public ImportadorDados(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            GravadorLoteEngajamentos gravador,
+            EngajamentoIngestaoService ingestao,
+            CacheSegundoNivel cacheSegundoNivel,
+            PlacarRanking placar,
+            JanelaDeslizanteService janelas,
+            ApplicationEventPublisher eventos,
+            ObjectMapper objectMapper,
+            @Value("${importacao.tamanho-lote:1000}") int tamanhoLote,
+            @Value("${importacao.capacidade-fila:8}") int capacidadeFila,
+            @Value("${importacao.cache-emails:100000}") long tamanhoCacheEmails,
+            @Value("${importacao.intervalo-log-ms:5000}") long intervaloLogMs) {
+        if (tamanhoLote <= 0 || capacidadeFila <= 0 || tamanhoCacheEmails <= 0) {
+            throw new IllegalArgumentException("Configuração de importação inválida");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.gravador = gravador;
+        this.ingestao = ingestao;
+        this.cacheSegundoNivel = cacheSegundoNivel;
+        this.placar = placar;
+        this.janelas = janelas;
+        this.eventos = eventos;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+        this.capacidadeFila = capacidadeFila;
+        this.tamanhoCacheEmails = tamanhoCacheEmails;
+        this.intervaloLogMs = intervaloLogMs;
+    }
+
+    /**
+     * Importa o arquivo (ou o restante dele, se uma importação anterior parou no meio)
+     */
+    public ResultadoImportacao importar(EntidadeImportacao entidade, Path arquivo) {
+        String chave = arquivo.toAbsolutePath().normalize().toString();
+        long[] progresso = jdbcTemplate.query(SQL_PROGRESSO,
+                rs -> rs.next() ? new long[] {rs.getLong(1), rs.getLong(2)} : new long[] {0, 0},
+                chave, entidade.name());
+        Gravacao gravacao = new Gravacao(entidade, chave, progresso[0], progresso[1]);
+        if (gravacao.retomadoDe > 0) {
+            log.info("Retomando importação {} de {} após o registro {}", entidade, arquivo, gravacao.retomadoDe);
+        }
+
+        BlockingQueue<Lote> fila = new ArrayBlockingQueue<>(capacidadeFila);
+        Thread leitor = new Thread(() -> ler(entidade, arquivo, gravacao.retomadoDe, fila), "importacao-leitor");
+        leitor.setDaemon(true);
+        leitor.start();
+        long inicio = System.nanoTime();
+        long ultimoLog = inicio;
+        try {
+            for (Lote lote = fila.take(); !lote.fim(); lote = fila.take()) {
+                if (lote.erro() != null) {
+                    throw lote.erro();
+                }
+                gravacao.gravar(lote);
+                long agora = System.nanoTime();
+                if (agora - ultimoLog >= TimeUnit.MILLISECONDS.toNanos(intervaloLogMs)) {
+                    ultimoLog = agora;
+                    log.info("Importação {} de {}: {} registros, {} registros/s", entidade, arquivo,
+                            gravacao.processados, porSegundo(gravacao.processados, agora - inicio));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida", e);
+        } finally {
+            leitor.interrupt();
+        }
+
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        ResultadoImportacao resultado = new ResultadoImportacao(entidade, gravacao.retomadoDe,
+                gravacao.processados, gravacao.gravados, gravacao.rejeitados, duracao);
+        log.info("Importação {} de {} concluída: {} registros ({} gravados, {} rejeitados) em {} ms, {} registros/s",
+                entidade, arquivo, resultado.getRegistros(), resultado.getGravados(), resultado.getRejeitados(),
+                duracao.toMillis(), resultado.getRegistrosPorSegundo());
+        return resultado;
+    }
+
+    // Leitura e validação (thread do leitor)
+
+    private void ler(EntidadeImportacao entidade, Path arquivo, long pular, BlockingQueue<Lote> fila) {
+        try (LeitorRegistros leitor = LeitorRegistros.abrir(arquivo, objectMapper)) {
+            long numero = 0;
+            List<Linha> linhas = new ArrayList<>(tamanhoLote);
+            int rejeitados = 0;
+            for (Map<String, String> registro = leitor.proximo(); registro != null; registro = leitor.proximo()) {
+                numero++;
+                if (numero <= pular) {
+                    continue;
+                }
+                try {
+                    linhas.add(converter(entidade, numero, registro));
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    rejeitar(numero, e.getMessage());
+                    rejeitados++;
+                }
+                if (linhas.size() + rejeitados >= tamanhoLote) {
+                    fila.put(new Lote(linhas, rejeitados, numero, false, null));
+                    linhas = new ArrayList<>(tamanhoLote);
+                    rejeitados = 0;
+                }
+            }
+            if (!linhas.isEmpty() || rejeitados > 0) {
+                fila.put(new Lote(linhas, rejeitados, numero, false, null));
+            }
+            fila.put(new Lote(List.of(), 0, numero, true, null));
+        } catch (InterruptedException e) {
+            // Quem grava desistiu da importação
+        } catch (IOException | RuntimeException e) {
+            RuntimeException erro = e instanceof IOException io
+                    ? new UncheckedIOException("Falha ao ler " + arquivo, io)
+                    : (RuntimeException) e;
+            try {
+                fila.put(new Lote(List.of(), 0, 0, false, erro));
+            } catch (InterruptedException ignorada) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Linha converter(EntidadeImportacao entidade, long numero, Map<String, String> r) {
+        return switch (entidade) {
+            case USUARIOS -> new NovoUsuario(numero,
+                    texto(r, "nome", 100),
+                    Email.de(obrigatorio(r, "email")).getEndereco(),
+                    r.get("ativo") == null || Boolean.parseBoolean(r.get("ativo")),
+                    dataHora(r, "data_cadastro"));
+            case CONTEUDOS -> new NovoConteudo(numero,
+                    Email.de(obrigatorio(r, "autor_email")).getEndereco(),
+                    texto(r, "titulo", 200),
+                    obrigatorio(r, "texto"),
+                    TipoConteudo.valueOf(obrigatorio(r, "tipo").toUpperCase()),
+                    inteiro(r, "visualizacoes", 0),
+                    dataHora(r, "data_publicacao"));
+            case ENGAJAMENTOS -> {
+                TipoEngajamento tipo = TipoEngajamento.valueOf(obrigatorio(r, "tipo").toUpperCase());
+                yield new NovoEngajamento(numero,
+                        Email.de(obrigatorio(r, "usuario_email")).getEndereco(),
+                        r.get("conteudo_id") != null ? Long.valueOf(r.get("conteudo_id")) : null,
+                        tipo,
+                        inteiro(r, "pontos", tipo.getPontos()),
+                        dataHora(r, "data_engajamento"));
+            }
+        };
+    }
+
+    private static String obrigatorio(Map<String, String> registro, String campo) {
+        String valor = registro.get(campo);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Campo obrigatório ausente: " + campo);
+        }
+        return valor;
+    }
+
+    private static String texto(Map<String, String> registro, String campo, int tamanhoMaximo) {
+        String valor = obrigatorio(registro, campo).trim();
+        if (valor.length() > tamanhoMaximo) {
+            throw new IllegalArgumentException("Campo " + campo + " com mais de " + tamanhoMaximo + " caracteres");
+        }
+        return valor;
+    }
+
+    private static int inteiro(Map<String, String> registro, String campo, int padrao) {
+        String valor = registro.get(campo);
+        int numero = valor == null ? padrao : Integer.parseInt(valor.trim());
+        if (numero < 0) {
+            throw new IllegalArgumentException("Campo " + campo + " não pode ser negativo");
+        }
+        return numero;
+    }
+
+    private static LocalDateTime dataHora(Map<String, String> registro, String campo) {
+        String valor = registro.get(campo);
+        if (valor == null) {
+            return LocalDateTime.now();
+        }
+        return valor.length() == 10 ? LocalDate.parse(valor).atStartOfDay() : LocalDateTime.parse(valor);
+    }
+
+    private void rejeitar(long numero, String motivo) {
+        if (rejeicoesNoLog.incrementAndGet() <= REJEICOES_NO_LOG) {
+            log.warn("Registro {} rejeitado: {}", numero, motivo);
+        }
+    }
+
+    private static long porSegundo(long registros, long nanos) {
+        return nanos > 0 ? registros * TimeUnit.SECONDS.toNanos(1) / nanos : registros;
+    }
+
+    // Gravação (thread de quem chamou importar)
+
+    /**
+     * Estado de uma importação em andamento: progresso e cache de emails
+     */
+    private final class Gravacao {
+        private final EntidadeImportacao entidade;
+        private final String arquivo;
+        private final long retomadoDe;
+        private final Cache<String, Long> idsPorEmail = Caffeine.newBuilder().maximumSize(tamanhoCacheEmails).build();
+        private long rejeitadosAntes;
+        private long processados;
+        private long gravados;
+        private long rejeitados;
+
+        private Gravacao(EntidadeImportacao entidade, String arquivo, long retomadoDe, long rejeitadosAntes) {
+            this.entidade = entidade;
+            this.arquivo = arquivo;
+            this.retomadoDe = retomadoDe;
+            this.rejeitadosAntes = rejeitadosAntes;
+        }
+
+        /**
+         * Grava o lote e o progresso juntos. Ocorre entre dois lotes da ingestão para
+         * que o checkpoint do placar nunca veja o banco à frente do placar.
+         */
+        void gravar(Lote lote) {
+            int[] resultado = ingestao.entreLotes(() -> switch (entidade) {
+                case USUARIOS -> gravarUsuarios(lote);
+                case CONTEUDOS -> gravarConteudos(lote);
+                case ENGAJAMENTOS -> gravarEngajamentos(lote);
+            });
+            int rejeitadosLote = lote.rejeitados() + resultado[1];
+            processados += lote.linhas().size() + lote.rejeitados();
+            gravados += resultado[0];
+            rejeitados += rejeitadosLote;
+            rejeitadosAntes += rejeitadosLote;
+        }
+
+        private int[] gravarUsuarios(Lote lote) {
+            List<NovoUsuario> usuarios = linhas(lote, NovoUsuario.class);
+            Set<String> vistos = new HashSet<>(buscarIds(usuarios.stream().map(NovoUsuario::email).toList()).keySet());
+            List<NovoUsuario> novos = new ArrayList<>(usuarios.size());
+            for (NovoUsuario usuario : usuarios) {
+                if (vistos.add(usuario.email())) {
+                    novos.add(usuario);
+                } else {
+                    rejeitar(usuario.numero(), "email já cadastrado: " + usuario.email());
+                }
+            }
+            Map<String, Long> ids = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(SQL_INSERIR_USUARIO, novos, novos.size(), (ps, usuario) -> {
+                    ps.setString(1, usuario.nome());
+                    ps.setString(2, usuario.email());
+                    ps.setBoolean(3, usuario.ativo());
+                    ps.setTimestamp(4, Timestamp.valueOf(usuario.dataCadastro()));
+                });
+                gravarProgresso(lote, usuarios.size() - novos.size());
+                cacheSegundoNivel.descartarConsultas(Usuario.REGIAO_CONSULTAS);
+                return buscarIds(novos.stream().map(NovoUsuario::email).toList());
+            });
+            for (NovoUsuario usuario : novos) {
+                if (usuario.ativo()) {
+                    placar.atualizar(ids.get(usuario.email()), 0);
+                }
+            }
+            return new int[] {novos.size(), usuarios.size() - novos.size()};
+        }
+
+        private int[] gravarConteudos(Lote lote) {
+            List<NovoConteudo> conteudos = linhas(lote, NovoConteudo.class);
+            Map<String, Long> autores = resolverEmails(conteudos.stream().map(NovoConteudo::autorEmail).toList());
+            List<NovoConteudo> validos = new ArrayList<>(conteudos.size());
+            for (NovoConteudo conteudo : conteudos) {
+                if (autores.containsKey(conteudo.autorEmail())) {
+                    validos.add(conteudo);
+                } else {
+                    rejeitar(conteudo.numero(), "autor não encontrado: " + conteudo.autorEmail());
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(SQL_INSERIR_CONTEUDO, validos, validos.size(), (ps, conteudo) -> {
+                    ps.setLong(1, autores.get(conteudo.autorEmail()));
+                    ps.setString(2, conteudo.titulo());
+                    ps.setString(3, conteudo.texto());
+                    ps.setString(4, conteudo.tipo().name());
+                    ps.setInt(5, conteudo.visualizacoes());
+                    ps.setTimestamp(6, Timestamp.valueOf(conteudo.dataPublicacao()));
+                });
+                gravarProgresso(lote, conteudos.size() - validos.size());
+                cacheSegundoNivel.descartarConsultas(Conteudo.REGIAO_CONSULTAS);
+            });
+            return new int[] {validos.size(), conteudos.size() - validos.size()};
+        }
+
+        private int[] gravarEngajamentos(Lote lote) {
+            List<NovoEngajamento> engajamentos = linhas(lote, NovoEngajamento.class);
+            Map<String, Long> usuarios = resolverEmails(engajamentos.stream().map(NovoEngajamento::usuarioEmail).toList());
+            Set<Long> conteudos = conteudosExistentes(engajamentos.stream()
+                    .map(NovoEngajamento::conteudoId).filter(id -> id != null).distinct().toList());
+            List<EngajamentoDTO> validos = new ArrayList<>(engajamentos.size());
+            for (NovoEngajamento engajamento : engajamentos) {
+                Long usuarioId = usuarios.get(engajamento.usuarioEmail());
+                if (usuarioId == null) {
+                    rejeitar(engajamento.numero(), "usuário não encontrado: " + engajamento.usuarioEmail());
+                } else if (engajamento.conteudoId() != null && !conteudos.contains(engajamento.conteudoId())) {
+                    rejeitar(engajamento.numero(), "conteúdo não encontrado: " + engajamento.conteudoId());
+                } else {
+                    validos.add(EngajamentoDTO.builder()
+                            .usuarioId(usuarioId)
+                            .conteudoId(engajamento.conteudoId())
+                            .tipo(engajamento.tipo().name())
+                            .pontos(engajamento.pontos())
+                            .dataEngajamento(engajamento.data())
+                            .build());
+                }
+            }
+            Map<Long, Integer> deltas = transactionTemplate.execute(status -> {
+                gravarProgresso(lote, engajamentos.size() - validos.size());
+                return validos.isEmpty() ? Map.<Long, Integer>of() : gravador.gravar(validos);
+            });
+            // Mesmas atualizações em memória que a ingestão faz após o commit
+            deltas.forEach(placar::adicionarPontos);
+            for (EngajamentoDTO engajamento : validos) {
+                janelas.registrar(engajamento.getUsuarioId(),
+                        engajamento.getDataEngajamento().toLocalDate(), engajamento.getPontos());
+            }
+            if (!deltas.isEmpty()) {
+                eventos.publishEvent(new PontuacaoAlteradaEvent(deltas.keySet()));
+            }
+            return new int[] {validos.size(), engajamentos.size() - validos.size()};
+        }
+
+        private void gravarProgresso(Lote lote, int rejeitadosNaGravacao) {
+            jdbcTemplate.update(SQL_GRAVAR_PROGRESSO, arquivo, entidade.name(), lote.ultimoRegistro(),
+                    rejeitadosAntes + lote.rejeitados() + rejeitadosNaGravacao, Timestamp.valueOf(LocalDateTime.now()));
+        }
+
+        private Map<String, Long> resolverEmails(List<String> emails) {
+            Map<String, Long> ids = new HashMap<>(idsPorEmail.getAllPresent(emails));
+            List<String> faltantes = emails.stream().filter(email -> !ids.containsKey(email)).distinct().toList();
+            if (!faltantes.isEmpty()) {
+                Map<String, Long> encontrados = buscarIds(faltantes);
+                idsPorEmail.putAll(encontrados);
+                ids.putAll(encontrados);
+            }
+            return ids;
+        }
+    }
+
+    private Map<String, Long> buscarIds(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM usuarios WHERE email IN (" + marcadores(emails.size()) + ")",
+                rs -> {
+                    ids.put(rs.getString(2), rs.getLong(1));
+                }, emails.toArray());
+        return ids;
+    }
+
+    private Set<Long> conteudosExistentes(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM conteudos WHERE id IN (" + marcadores(ids.size()) + ")", Long.class, ids.toArray()));
+    }
+
+    private static String marcadores(int quantidade) {
+        return String.join(", ", Collections.nCopies(quantidade, "?"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Linha> List<T> linhas(Lote lote, Class<T> tipo) {
+        return (List<T>) lote.linhas();
+    }
+
+    private interface Linha {
+        long numero();
+    }
+
+    private record NovoUsuario(long numero, String nome, String email, boolean ativo,
+                               LocalDateTime dataCadastro) implements Linha {
+    }
+
+    private record NovoConteudo(long numero, String autorEmail, String titulo, String texto, TipoConteudo tipo,
+                                int visualizacoes, LocalDateTime dataPublicacao) implements Linha {
+    }
+
+    private record NovoEngajamento(long numero, String usuarioEmail, Long conteudoId, TipoEngajamento tipo,
+                                   int pontos, LocalDateTime data) implements Linha {
+    }
+
+    private record Lote(List<Linha> linhas, int rejeitados, long ultimoRegistro, boolean fim, RuntimeException erro) {
+    }
+}
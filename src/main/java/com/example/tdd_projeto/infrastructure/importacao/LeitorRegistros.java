@@ -0,0 +1,151 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê um arquivo de importação um registro por vez, como mapa campo → valor
+ * (null para campo ausente ou vazio). O formato vem da extensão: ".csv" (com
+ * cabeçalho, campos entre aspas podem conter vírgulas, quebras de linha e "")
+ * ou ".ndjson"/".jsonl" (um objeto JSON por linha).
+ */
+public abstract class LeitorRegistros implements Closeable {
+
+    /**
+     * Próximo registro, ou null no fim do arquivo
+     */
+    public abstract Map<String, String> proximo() throws IOException;
+
+    public static LeitorRegistros abrir(Path arquivo, ObjectMapper objectMapper) throws IOException {
+        String nome = arquivo.getFileName().toString().toLowerCase();
+        BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        if (nome.endsWith(".csv")) {
+            return new Csv(leitor);
+        }
+        if (nome.endsWith(".ndjson") || nome.endsWith(".jsonl")) {
+            return new Ndjson(leitor, objectMapper);
+        }
+        leitor.close();
+        throw new IllegalArgumentException("Formato de importação não suportado: " + arquivo.getFileName());
+    }
+
+    private static String valor(String texto) {
+        return texto == null || texto.isEmpty() ? null : texto;
+    }
+
+    private static final class Csv extends LeitorRegistros {
+        private final BufferedReader leitor;
+        private final List<String> cabecalho;
+        private final StringBuilder campo = new StringBuilder();
+
+        private Csv(BufferedReader leitor) throws IOException {
+            this.leitor = leitor;
+            List<String> campos = ler();
+            if (campos == null) {
+                throw new IllegalArgumentException("Arquivo CSV sem cabeçalho");
+            }
+            this.cabecalho = campos.stream().map(String::trim).toList();
+        }
+
+        @Override
+        public Map<String, String> proximo() throws IOException {
+            List<String> campos = ler();
+            while (campos != null && campos.size() == 1 && campos.get(0).isEmpty()) {
+                campos = ler(); // linha em branco
+            }
+            if (campos == null) {
+                return null;
+            }
+            Map<String, String> registro = new HashMap<>();
+            for (int i = 0; i < cabecalho.size() && i < campos.size(); i++) {
+                registro.put(cabecalho.get(i), valor(campos.get(i)));
+            }
+            return registro;
+        }
+
+        private List<String> ler() throws IOException {
+            int c = leitor.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> campos = new ArrayList<>();
+            boolean entreAspas = false;
+            campo.setLength(0);
+            while (c != -1) {
+                if (entreAspas) {
+                    if (c == '"') {
+                        leitor.mark(1);
+                        if (leitor.read() == '"') {
+                            campo.append('"');
+                        } else {
+                            leitor.reset();
+                            entreAspas = false;
+                        }
+                    } else {
+                        campo.append((char) c);
+                    }
+                } else if (c == '"') {
+                    entreAspas = true;
+                } else if (c == ',') {
+                    campos.add(campo.toString());
+                    campo.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    campo.append((char) c);
+                }
+                c = leitor.read();
+            }
+            campos.add(campo.toString());
+            return campos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            leitor.close();
+        }
+    }
+
+    private static final class Ndjson extends LeitorRegistros {
+        private final BufferedReader leitor;
+        private final MappingIterator<JsonNode> objetos;
+
+        private Ndjson(BufferedReader leitor, ObjectMapper objectMapper) throws IOException {
+            this.leitor = leitor;
+            this.objetos = objectMapper.readerFor(JsonNode.class).readValues(leitor);
+        }
+
+        @Override
+        public Map<String, String> proximo() throws IOException {
+            if (!objetos.hasNextValue()) {
+                return null;
+            }
+            JsonNode objeto = objetos.nextValue();
+            Map<String, String> registro = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = objeto.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> campo = it.next();
+                registro.put(campo.getKey(), campo.getValue().isNull() ? null : valor(campo.getValue().asText()));
+            }
+            return registro;
+        }
+
+        @Override
+        public void close() throws IOException {
+            objetos.close();
+            leitor.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+import java.time.Duration;
+
+/**
+ * Totais de uma execução da importação
+ */
+public class ResultadoImportacao {
+    private final EntidadeImportacao entidade;
+    private final long retomadoDe;
+    private final long registros;
+    private final long gravados;
+    private final long rejeitados;
+    private final Duration duracao;
+
+    public ResultadoImportacao(EntidadeImportacao entidade, long retomadoDe, long registros,
+                               long gravados, long rejeitados, Duration duracao) {
+        this.entidade = entidade;
+        this.retomadoDe = retomadoDe;
+        this.registros = registros;
+        this.gravados = gravados;
+        this.rejeitados = rejeitados;
+        this.duracao = duracao;
+    }
+
+    public EntidadeImportacao getEntidade() { return entidade; }
+
+    /** Registros do arquivo já gravados por execuções anteriores (pulados nesta) */
+    public long getRetomadoDe() { return retomadoDe; }
+
+    /** Registros lidos nesta execução (gravados + rejeitados) */
+    public long getRegistros() { return registros; }
+
+    public long getGravados() { return gravados; }
+
+    public long getRejeitados() { return rejeitados; }
+
+    public Duration getDuracao() { return duracao; }
+
+    public long getRegistrosPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos > 0 ? registros * 1_000_000_000L / nanos : registros;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.tdd_projeto.infrastructure.metrics;
+
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Quantidade de registros por entidade (e de engajamentos por tipo).
+ *
+ * As contagens são lidas do banco com duas consultas (uma para as tabelas, outra
+ * agrupada por tipo de engajamento) e guardadas por metricas.entidades.intervalo-ms;
+ * as coletas dentro do intervalo reaproveitam os valores em vez de repetir os COUNT.
+ */
+@Component
+public class MetricasEntidades implements MeterBinder {
+
+    private static final String NOME = "entidades.registros";
+
+    private static final TipoEngajamento[] TIPOS = TipoEngajamento.values();
+
+    private static final String SQL_TABELAS = """
+        SELECT (SELECT COUNT(*) FROM usuarios), (SELECT COUNT(*) FROM conteudos), (SELECT COUNT(*) FROM rankings)
+        """;
+
+    private static final String SQL_ENGAJAMENTOS_POR_TIPO = "SELECT tipo, COUNT(*) FROM engajamentos GROUP BY tipo";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long intervaloNanos;
+
+    private Contagens contagens;
+    private long lidasEm;
+
+    public MetricasEntidades(
+            JdbcTemplate jdbcTemplate,
+            @Value("${metricas.entidades.intervalo-ms:60000}") long intervaloMs) {
+        if (intervaloMs < 0) {
+            throw new IllegalArgumentException("Intervalo das métricas de entidades inválido");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrar(registry, "usuarios", c -> c.usuarios);
+        registrar(registry, "conteudos", c -> c.conteudos);
+        registrar(registry, "engajamentos", Contagens::engajamentos);
+        registrar(registry, "rankings", c -> c.rankings);
+
+        for (TipoEngajamento tipo : TIPOS) {
+            Gauge.builder("engajamentos.registros", this, m -> m.contagens().porTipo[tipo.ordinal()])
+                    .description("Engajamentos gravados por tipo")
+                    .tag("tipo", tipo.name())
+                    .register(registry);
+        }
+    }
+
+    private void registrar(MeterRegistry registry, String entidade, ToDoubleFunction<Contagens> valor) {
+        Gauge.builder(NOME, this, m -> valor.applyAsDouble(m.contagens()))
+                .description("Registros gravados por entidade")
+                .tag("entidade", entidade)
+                .register(registry);
+    }
+
+    /**
+     * Contagens lidas há menos de um intervalo, ou lidas agora
+     */
+    private synchronized Contagens contagens() {
+        long agora = System.nanoTime();
+        if (contagens == null || agora - lidasEm >= intervaloNanos) {
+            contagens = ler();
+            lidasEm = agora;
+        }
+        return contagens;
+    }
+
+    private Contagens ler() {
+        Contagens lidas = jdbcTemplate.queryForObject(SQL_TABELAS,
+                (rs, linha) -> new Contagens(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+        jdbcTemplate.query(SQL_ENGAJAMENTOS_POR_TIPO, rs -> {
+            lidas.porTipo[TipoEngajamento.valueOf(rs.getString(1)).ordinal()] = rs.getLong(2);
+        });
+        return lidas;
+    }
+
+    private static final class Contagens {
+        private final long usuarios;
+        private final long conteudos;
+        private final long rankings;
+        private final long[] porTipo = new long[TIPOS.length];
+
+        private Contagens(long usuarios, long conteudos, long rankings) {
+            this.usuarios = usuarios;
+            this.conteudos = conteudos;
+            this.rankings = rankings;
+        }
+
+        private long engajamentos() {
+            long total = 0;
+            for (long quantidade : porTipo) {
+                total += quantidade;
+            }
+            return total;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.tdd_projeto.shared.dto;
 
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -28,4 +29,21 @@ public class ConteudoDTO {
     private String tipo; // ARTIGO, PERGUNTA, etc
     private LocalDateTime dataPublicacao;
     private Integer visualizacoes;
+    
+    /**
+     * Resumo para listagens (JPQL "SELECT new"): não lê a coluna TEXT do conteúdo
+     */
+    public ConteudoDTO(Long id, Long autorId, String autorNome, String titulo,
+                       TipoConteudo tipo, LocalDateTime dataPublicacao, Integer visualizacoes) {
+        this(id, autorId, autorNome, titulo, null, tipo, dataPublicacao, visualizacoes);
+    }
+    
+    /**
+     * Conteúdo completo, com o texto (JPQL "SELECT new")
+     */
+    public ConteudoDTO(Long id, Long autorId, String autorNome, String titulo, String texto,
+                       TipoConteudo tipo, LocalDateTime dataPublicacao, Integer visualizacoes) {
+        this(id, autorId, autorNome, titulo, texto,
+                tipo != null ? tipo.name() : null, dataPublicacao, visualizacoes);
+    }
 }
\ No newline at end of file
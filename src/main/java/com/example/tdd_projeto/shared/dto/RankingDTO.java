@@ -1,5 +1,7 @@
 package com.example.tdd_projeto.shared.dto;
 
+import com.example.tdd_projeto.domain.entity.Ranking;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +22,13 @@ public class RankingDTO {
     private String variacaoFormatada; // "+2", "-1", "="
     private String periodo; // DIARIO, SEMANAL, etc
     private LocalDate dataReferencia;
+    
+    /**
+     * Usado pelas consultas JPQL com "SELECT new" (sem carregar Ranking e Usuario)
+     */
+    public RankingDTO(Long id, Long usuarioId, String usuarioNome, Integer posicao, Integer pontuacao,
+                      Integer variacaoPosicao, PeriodoRanking periodo, LocalDate dataReferencia) {
+        this(id, usuarioId, usuarioNome, posicao, pontuacao, Ranking.formatarVariacao(variacaoPosicao),
+                periodo != null ? periodo.name() : null, dataReferencia);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.tdd_projeto.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha da exportação de um snapshot do ranking (projetada direto pela consulta)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingExportacaoDTO {
+    private Long id;
+    private Integer posicao;
+    private Integer pontuacao;
+    private Integer variacaoPosicao;
+    private Long usuarioId;
+    private String usuarioNome;
+    private String usuarioEmail;
+}
@@ -2,12 +2,19 @@ package com.example.tdd_projeto.shared.dto;
 
 import com.example.tdd_projeto.domain.entity.Usuario;
 import com.example.tdd_projeto.domain.valueobject.Email;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Classe utilitária para converter entre Usuario e UsuarioDTO.
  */
 public class UsuarioMapper {
     
+    private static final Timer TIMER_TO_DTO = timer("toDTO");
+    private static final Timer TIMER_TO_ENTITY = timer("toEntity");
+    
     /**
      * Converte Entity para DTO
      */
@@ -16,7 +23,8 @@ public class UsuarioMapper {
             return null;
         }
         
-        return UsuarioDTO.builder()
+        long inicio = System.nanoTime();
+        UsuarioDTO dto = UsuarioDTO.builder()
                 .id(usuario.getId())
                 .nome(usuario.getNome())
                 .email(usuario.getEmail() != null ? usuario.getEmail().getEndereco() : null)
@@ -24,6 +32,8 @@ public class UsuarioMapper {
                 .dataCadastro(usuario.getDataCadastro())
                 .ativo(usuario.getAtivo())
                 .build();
+        TIMER_TO_DTO.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return dto;
     }
     
     /**
@@ -34,14 +44,17 @@ public class UsuarioMapper {
             return null;
         }
         
-        return Usuario.builder()
+        long inicio = System.nanoTime();
+        Usuario usuario = Usuario.builder()
                 .id(dto.getId())
                 .nome(dto.getNome())
-                .email(dto.getEmail() != null ? Email.de(dto.getEmail()) : null)
+                .email(dto.getEmail() != null ? Email.canonico(dto.getEmail()) : null)
                 .pontuacaoTotal(dto.getPontuacaoTotal())
                 .dataCadastro(dto.getDataCadastro())
                 .ativo(dto.getAtivo())
                 .build();
+        TIMER_TO_ENTITY.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return usuario;
     }
     
     /**
@@ -52,11 +65,20 @@ public class UsuarioMapper {
             usuario.setNome(dto.getNome());
         }
         if (dto.getEmail() != null) {
-            usuario.setEmail(Email.de(dto.getEmail()));
+            usuario.setEmail(Email.canonico(dto.getEmail()));
         }
         // pontuacaoTotal e dataCadastro não devem ser alterados manualmente
         if (dto.getAtivo() != null) {
             usuario.setAtivo(dto.getAtivo());
         }
     }
+    
+    private static Timer timer(String operacao) {
+        // Registro global: o Spring Boot adiciona a ele os registros configurados
+        return Timer.builder("mapper.conversao")
+                .tag("mapper", "usuario")
+                .tag("operacao", operacao)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
 }
\ No newline at end of file
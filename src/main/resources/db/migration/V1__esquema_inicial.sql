@@ -0,0 +1,91 @@
+-- Esquema inicial da plataforma de gamificação.
+-- Índices escolhidos a partir das consultas dos repositórios (filtro + ordenação + chave da paginação).
+
+CREATE TABLE usuarios (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome            VARCHAR(100) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    pontuacao_total INTEGER,
+    data_cadastro   TIMESTAMP(6) NOT NULL,
+    ativo           BOOLEAN,
+    CONSTRAINT pk_usuarios PRIMARY KEY (id),
+    CONSTRAINT uk_usuarios_email UNIQUE (email)
+);
+
+-- Ranking por pontuação: WHERE ativo = TRUE ORDER BY pontuacao_total DESC, id
+CREATE INDEX idx_usuarios_ranking ON usuarios (ativo, pontuacao_total DESC, id);
+-- countByPontuacaoTotalGreaterThan
+CREATE INDEX idx_usuarios_pontuacao ON usuarios (pontuacao_total);
+
+CREATE TABLE conteudos (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    autor_id        BIGINT NOT NULL,
+    titulo          VARCHAR(200) NOT NULL,
+    texto           TEXT NOT NULL,
+    tipo            ENUM ('ARTIGO','DISCUSSAO','PERGUNTA','RESPOSTA','TUTORIAL') NOT NULL,
+    data_publicacao TIMESTAMP(6) NOT NULL,
+    visualizacoes   INTEGER,
+    CONSTRAINT pk_conteudos PRIMARY KEY (id),
+    CONSTRAINT fk_conteudos_autor FOREIGN KEY (autor_id) REFERENCES usuarios (id)
+);
+
+-- Mais visualizados (paginação por chave em visualizacoes, id)
+CREATE INDEX idx_conteudos_visualizacoes ON conteudos (visualizacoes DESC, id);
+-- findByAutor / resumos do autor ordenados por publicação
+CREATE INDEX idx_conteudos_autor ON conteudos (autor_id, data_publicacao DESC, id DESC);
+-- findByTipo
+CREATE INDEX idx_conteudos_tipo ON conteudos (tipo, id);
+
+CREATE TABLE engajamentos (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    usuario_id       BIGINT NOT NULL,
+    conteudo_id      BIGINT,
+    tipo             ENUM ('COMENTARIO','COMPARTILHAMENTO','CURTIDA','POSTAGEM','RESPOSTA') NOT NULL,
+    pontos           INTEGER NOT NULL,
+    data_engajamento TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_engajamentos PRIMARY KEY (id),
+    CONSTRAINT fk_engajamentos_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id),
+    CONSTRAINT fk_engajamentos_conteudo FOREIGN KEY (conteudo_id) REFERENCES conteudos (id)
+);
+
+-- findByDataEngajamentoBetween (paginação por chave em data_engajamento, id)
+CREATE INDEX idx_engajamentos_data ON engajamentos (data_engajamento, id);
+-- findByTipo (paginação por chave em tipo, id)
+CREATE INDEX idx_engajamentos_tipo ON engajamentos (tipo, id);
+-- findByUsuario (paginação por chave em usuario_id, id)
+CREATE INDEX idx_engajamentos_usuario ON engajamentos (usuario_id, id);
+-- Engajamentos de um usuário em um intervalo de datas
+CREATE INDEX idx_engajamentos_usuario_data ON engajamentos (usuario_id, data_engajamento);
+-- Remoção em cascata a partir do conteúdo
+CREATE INDEX idx_engajamentos_conteudo ON engajamentos (conteudo_id);
+
+CREATE TABLE rankings (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    usuario_id       BIGINT NOT NULL,
+    posicao          INTEGER NOT NULL,
+    pontuacao        INTEGER NOT NULL,
+    variacao_posicao INTEGER,
+    periodo          ENUM ('ANUAL','DIARIO','GERAL','MENSAL','SEMANAL') NOT NULL,
+    data_referencia  DATE NOT NULL,
+    data_calculo     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_rankings PRIMARY KEY (id),
+    CONSTRAINT uk_rankings_usuario_periodo_data UNIQUE (usuario_id, periodo, data_referencia),
+    CONSTRAINT fk_rankings_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+-- Páginas do snapshot: WHERE periodo = ? AND data_referencia = ? ORDER BY posicao, id
+CREATE INDEX idx_rankings_snapshot ON rankings (periodo, data_referencia, posicao, id);
+
+CREATE TABLE pontuacoes_periodo (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    usuario_id     BIGINT NOT NULL,
+    periodo        ENUM ('ANUAL','DIARIO','GERAL','MENSAL','SEMANAL') NOT NULL,
+    inicio_periodo DATE NOT NULL,
+    pontos         INTEGER NOT NULL,
+    CONSTRAINT pk_pontuacoes_periodo PRIMARY KEY (id),
+    CONSTRAINT uk_pontuacoes_periodo UNIQUE (usuario_id, periodo, inicio_periodo),
+    CONSTRAINT fk_pontuacoes_periodo_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+-- Geração do snapshot: WHERE periodo = ? AND inicio_periodo = ? ORDER BY pontos DESC
+CREATE INDEX idx_pontuacoes_periodo_ranking ON pontuacoes_periodo (periodo, inicio_periodo, pontos DESC, usuario_id);
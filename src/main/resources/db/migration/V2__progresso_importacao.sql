@@ -0,0 +1,11 @@
+-- Progresso das importações em massa: quantos registros de cada arquivo já foram
+-- gravados. É atualizado na mesma transação de cada lote, então uma importação
+-- interrompida continua exatamente do primeiro registro não gravado.
+CREATE TABLE importacoes (
+    arquivo       VARCHAR(1000) NOT NULL,
+    entidade      ENUM ('CONTEUDOS','ENGAJAMENTOS','USUARIOS') NOT NULL,
+    registros     BIGINT NOT NULL,
+    rejeitados    BIGINT NOT NULL,
+    atualizado_em TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_importacoes PRIMARY KEY (arquivo, entidade)
+);
@@ -0,0 +1,20 @@
+-- Usuários que atingiram o limite de pontos de um mês. A linha é inserida no
+-- lote de engajamentos que faz a pontuação mensal cruzar o limite; a chave
+-- única garante um único registro por usuário e mês. O fechamento do mês só
+-- muda a situação das linhas já existentes.
+CREATE TABLE elegibilidades_recompensa (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    usuario_id       BIGINT NOT NULL,
+    mes              DATE NOT NULL,
+    limite           INTEGER NOT NULL,
+    pontos           INTEGER NOT NULL,
+    data_cruzamento  TIMESTAMP(6) NOT NULL,
+    situacao         ENUM ('CONCEDIDA','ELEGIVEL') NOT NULL,
+    data_finalizacao TIMESTAMP(6),
+    CONSTRAINT pk_elegibilidades_recompensa PRIMARY KEY (id),
+    CONSTRAINT uk_elegibilidades_recompensa_usuario_mes UNIQUE (usuario_id, mes),
+    CONSTRAINT fk_elegibilidades_recompensa_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id)
+);
+
+-- Listagem e fechamento do mês: WHERE mes = ? (ou mes <= ?) AND situacao = ?
+CREATE INDEX idx_elegibilidades_recompensa_mes ON elegibilidades_recompensa (mes, situacao, id);
@@ -0,0 +1,18 @@
+-- Contadores de engajamentos por conteúdo (total e por tipo), mantidos por SQL
+-- na mesma transação que insere ou remove os engajamentos. Evitam carregar a
+-- coleção de engajamentos só para contá-la.
+ALTER TABLE conteudos ADD COLUMN total_engajamentos INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE conteudos ADD COLUMN total_postagens INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE conteudos ADD COLUMN total_respostas INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE conteudos ADD COLUMN total_curtidas INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE conteudos ADD COLUMN total_comentarios INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE conteudos ADD COLUMN total_compartilhamentos INTEGER DEFAULT 0 NOT NULL;
+
+-- Preenche os contadores a partir dos engajamentos existentes (idx_engajamentos_conteudo)
+UPDATE conteudos c SET
+    total_engajamentos      = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id),
+    total_postagens         = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id AND e.tipo = 'POSTAGEM'),
+    total_respostas         = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id AND e.tipo = 'RESPOSTA'),
+    total_curtidas          = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id AND e.tipo = 'CURTIDA'),
+    total_comentarios       = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id AND e.tipo = 'COMENTARIO'),
+    total_compartilhamentos = (SELECT COUNT(*) FROM engajamentos e WHERE e.conteudo_id = c.id AND e.tipo = 'COMPARTILHAMENTO');
@@ -0,0 +1,17 @@
+-- Versão do placar: incrementada por toda transação do GravadorLoteEngajamentos
+-- que soma pontos. A linha fica bloqueada até o commit, então as versões seguem a
+-- ordem de commit (ao contrário dos ids IDENTITY). Cada engajamento guarda a versão
+-- em que foi gravado; engajamentos inseridos pela JPA não somam pontos e ficam nulos.
+-- O checkpoint do placar guarda a versão e, na restauração, soma só as posteriores.
+CREATE TABLE placar_versao (
+    id     INTEGER NOT NULL,
+    versao BIGINT NOT NULL,
+    CONSTRAINT pk_placar_versao PRIMARY KEY (id)
+);
+
+INSERT INTO placar_versao (id, versao) VALUES (1, 0);
+
+ALTER TABLE engajamentos ADD COLUMN versao_placar BIGINT;
+
+-- Restauração do checkpoint: WHERE versao_placar > ?
+CREATE INDEX idx_engajamentos_versao_placar ON engajamentos (versao_placar);
@@ -0,0 +1,186 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa.SituacaoElegibilidade;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa as consultas dos repositórios, captura o SQL gerado pelo Hibernate e
+ * pede ao H2 o plano de cada uma (EXPLAIN). Falha se algum plano fizer tableScan,
+ * ou seja, se uma consulta não tiver índice que a atenda nas migrações.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.tdd_projeto.domain.repository.PlanoConsultasTest$ConsultasCapturadas")
+@DisplayName("Planos das consultas dos repositórios")
+class PlanoConsultasTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2025, 11, 5, 10, 0);
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ConteudoRepository conteudoRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = entityManager.persistAndFlush(Usuario.builder()
+                .nome("João Silva")
+                .email(Email.de("joao@teste.com"))
+                .pontuacaoTotal(100)
+                .ativo(true)
+                .build());
+        entityManager.clear();
+        ConsultasCapturadas.SQL.clear();
+    }
+
+    @Test
+    @DisplayName("Nenhuma consulta de repositório deve fazer tableScan")
+    void nenhumaConsultaDeveFazerTableScan() {
+        // GIVEN - todas as consultas declaradas nos repositórios
+        usuarioRepository.findByEmail_Endereco("joao@teste.com");
+        usuarioRepository.findByAtivoTrue();
+        usuarioRepository.findTopUsuariosByPontuacao();
+        usuarioRepository.findTopUsuariosByPontuacao(Limit.of(10));
+        usuarioRepository.findTopUsuariosByPontuacaoApos(100, 1L, Limit.of(10));
+        try (Stream<Usuario> ranking = usuarioRepository.streamTopUsuariosByPontuacao()) {
+            ranking.count();
+        }
+        usuarioRepository.countByPontuacaoTotalGreaterThan(50);
+        usuarioRepository.findDTOById(usuario.getId());
+        usuarioRepository.findDTOByEmail("joao@teste.com");
+        usuarioRepository.findDTOsTopByPontuacao(Limit.of(10));
+        usuarioRepository.findDTOsTopByPontuacaoApos(100, 1L, Limit.of(10));
+
+        conteudoRepository.findByAutor(usuario);
+        conteudoRepository.findByTipo(TipoConteudo.ARTIGO);
+        conteudoRepository.findTopConteudosByVisualizacoes();
+        conteudoRepository.findTopConteudosByVisualizacoes(Limit.of(10));
+        conteudoRepository.findTopConteudosByVisualizacoesApos(10, 1L, Limit.of(10));
+        conteudoRepository.countByAutor(usuario);
+        conteudoRepository.findResumosByAutorId(usuario.getId());
+        conteudoRepository.findResumosTopByVisualizacoes(Limit.of(10));
+        conteudoRepository.findResumosTopByVisualizacoesApos(10, 1L, Limit.of(10));
+        conteudoRepository.findCompletoById(1L);
+
+        engajamentoRepository.findByUsuario(usuario);
+        engajamentoRepository.findByUsuarioAndIdGreaterThanOrderByIdAsc(usuario, 0L, Limit.of(10));
+        engajamentoRepository.findByTipo(TipoEngajamento.CURTIDA);
+        engajamentoRepository.findByTipoAndIdGreaterThanOrderByIdAsc(TipoEngajamento.CURTIDA, 0L, Limit.of(10));
+        engajamentoRepository.countByTipo(TipoEngajamento.CURTIDA);
+        engajamentoRepository.findByDataEngajamentoBetween(AGORA.minusDays(1), AGORA);
+        engajamentoRepository.findByDataEngajamentoBetweenOrderByDataEngajamentoAscIdAsc(
+                AGORA.minusDays(1), AGORA, Limit.of(10));
+        engajamentoRepository.findByDataEngajamentoBetweenApos(
+                AGORA.minusDays(1), AGORA, AGORA.minusHours(1), 1L, Limit.of(10));
+        engajamentoRepository.calcularTotalPontosUsuario(usuario);
+
+        rankingRepository.findByPeriodoOrderByPosicaoAsc(PeriodoRanking.SEMANAL);
+        rankingRepository.findByUsuarioAndPeriodoAndDataReferencia(usuario, PeriodoRanking.SEMANAL, LocalDate.now());
+        rankingRepository.findDTOsByPeriodoAndDataReferencia(
+                PeriodoRanking.SEMANAL, LocalDate.now(), PageRequest.of(0, 10));
+        rankingRepository.findDTOsByPeriodoAndDataReferenciaApos(
+                PeriodoRanking.SEMANAL, LocalDate.now(), 1, 1L, Limit.of(10));
+        rankingRepository.findExportacaoByPeriodoAndDataReferenciaApos(
+                PeriodoRanking.SEMANAL, LocalDate.now(), 0, 0L, Limit.of(10));
+        rankingRepository.findDTOByUsuarioIdAndPeriodoAndDataReferencia(
+                usuario.getId(), PeriodoRanking.SEMANAL, LocalDate.now());
+        rankingRepository.findUltimaDataReferencia(PeriodoRanking.SEMANAL);
+        rankingRepository.findDataCalculo(PeriodoRanking.SEMANAL, LocalDate.now());
+        rankingRepository.findByUsuarioOrderByDataCalculoDesc(usuario);
+
+        pontuacaoPeriodoRepository.findPontos(usuario.getId(), PeriodoRanking.SEMANAL, LocalDate.now());
+
+        elegibilidadeRecompensaRepository.findByMesAndSituacaoOrderByIdAsc(
+                LocalDate.now().withDayOfMonth(1), SituacaoElegibilidade.ELEGIVEL);
+        elegibilidadeRecompensaRepository.countByMesAndSituacao(
+                LocalDate.now().withDayOfMonth(1), SituacaoElegibilidade.ELEGIVEL);
+
+        // WHEN
+        List<String> comTableScan = new ArrayList<>();
+        for (String sql : ConsultasCapturadas.SQL) {
+            if (!sql.trim().toLowerCase().startsWith("select")) {
+                continue;
+            }
+            String plano = explicar(sql);
+            if (plano.contains("tableScan")) {
+                comTableScan.add(sql + "\n" + plano);
+            }
+        }
+
+        // THEN
+        assertThat(ConsultasCapturadas.SQL).hasSizeGreaterThan(30);
+        assertThat(comTableScan).isEmpty();
+    }
+
+    private String explicar(String sql) {
+        // Parâmetros ficam nulos: o H2 escolhe o índice pela forma da condição, não pelo valor
+        int parametros = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            for (int i = 1; i <= parametros; i++) {
+                ps.setObject(i, null);
+            }
+        }, rs -> {
+            StringBuilder plano = new StringBuilder();
+            while (rs.next()) {
+                plano.append(rs.getString(1));
+            }
+            return plano.toString();
+        });
+    }
+
+    /**
+     * Guarda todo SQL preparado pelo Hibernate
+     */
+    public static class ConsultasCapturadas implements StatementInspector {
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
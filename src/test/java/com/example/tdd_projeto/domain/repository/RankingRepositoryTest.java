@@ -0,0 +1,96 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.domain.entity.Ranking;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Testes do RankingRepository")
+class RankingRepositoryTest {
+
+    private static final LocalDate DATA = LocalDate.of(2025, 11, 3);
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 100; i++) {
+            Usuario usuario = entityManager.persist(Usuario.builder()
+                    .nome("Aluno " + i)
+                    .email(Email.de("aluno" + i + "@teste.com"))
+                    .pontuacaoTotal(1_000 - i)
+                    .ativo(true)
+                    .build());
+            entityManager.persist(Ranking.builder()
+                    .usuario(usuario)
+                    .posicao(i)
+                    .pontuacao(1_000 - i)
+                    .variacaoPosicao(i % 3 - 1)
+                    .periodo(PeriodoRanking.SEMANAL)
+                    .dataReferencia(DATA)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Página de 100 posições deve custar uma consulta e nenhuma entidade carregada")
+    void paginaDeveCustarUmaConsulta() {
+        // WHEN
+        List<RankingDTO> pagina = rankingRepository.findDTOsByPeriodoAndDataReferencia(
+                PeriodoRanking.SEMANAL, DATA, PageRequest.of(0, 100));
+
+        // THEN
+        assertThat(pagina).hasSize(100);
+        assertThat(pagina.get(0).getUsuarioNome()).isEqualTo("Aluno 1");
+        assertThat(pagina.get(0).getVariacaoFormatada()).isEqualTo("=");
+        assertThat(pagina.get(1).getVariacaoFormatada()).isEqualTo("+1");
+        assertThat(pagina.get(0).getPeriodo()).isEqualTo("SEMANAL");
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Paginação por chave deve continuar após a última posição lida")
+    void paginacaoPorChaveDeveContinuar() {
+        // GIVEN
+        List<RankingDTO> primeira = rankingRepository.findDTOsByPeriodoAndDataReferencia(
+                PeriodoRanking.SEMANAL, DATA, PageRequest.of(0, 10));
+        RankingDTO ultimo = primeira.get(primeira.size() - 1);
+
+        // WHEN
+        List<RankingDTO> segunda = rankingRepository.findDTOsByPeriodoAndDataReferenciaApos(
+                PeriodoRanking.SEMANAL, DATA, ultimo.getPosicao(), ultimo.getId(), Limit.of(10));
+
+        // THEN
+        assertThat(segunda).extracting(RankingDTO::getPosicao)
+                .containsExactly(11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+    }
+}
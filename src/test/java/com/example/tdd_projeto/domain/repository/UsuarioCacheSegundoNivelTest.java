@@ -0,0 +1,176 @@
+package com.example.tdd_projeto.domain.repository;
+
+import com.example.tdd_projeto.application.service.CacheSegundoNivel;
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.VisualizacaoContadorService;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "cache"})
+@DisplayName("Testes do cache de segundo nível de Usuario")
+class UsuarioCacheSegundoNivelTest {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private ConteudoRepository conteudoRepository;
+
+    @Autowired
+    private VisualizacaoContadorService visualizacoes;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics estatisticas;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("João Silva")
+                .email(Email.de("joao@teste.com"))
+                .pontuacaoTotal(50)
+                .ativo(true)
+                .build());
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        conteudoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Busca repetida pelo email não deve consultar o banco")
+    void buscaRepetidaPeloEmailNaoDeveConsultarBanco() {
+        // GIVEN - primeira busca pode precisar do banco
+        assertThat(usuarioRepository.buscarPorEmail("joao@teste.com")).isPresent();
+        long consultas = estatisticas.getPrepareStatementCount();
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            assertThat(usuarioRepository.buscarPorEmail("joao@teste.com"))
+                    .get().extracting(Usuario::getId).isEqualTo(usuario.getId());
+        }
+
+        // THEN
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(consultas);
+        assertThat(estatisticas.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(10);
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Pontos gravados por SQL direto devem descartar o usuário do cache")
+    void pontosGravadosDevemDescartarUsuarioDoCache() {
+        // GIVEN
+        assertThat(usuarioRepository.buscarPorEmail("joao@teste.com"))
+                .get().extracting(Usuario::getPontuacaoTotal).isEqualTo(50);
+
+        // WHEN
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo("CURTIDA")
+                .build());
+
+        // THEN
+        assertThat(usuarioRepository.buscarPorEmail("joao@teste.com"))
+                .get().extracting(Usuario::getPontuacaoTotal).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Usuário inserido por SQL direto deve descartar as consultas em cache")
+    void usuarioInseridoPorSqlDeveDescartarConsultas() {
+        // GIVEN - a busca sem resultado fica no cache de consultas
+        assertThat(usuarioRepository.findByEmail_Endereco("maria@teste.com")).isEmpty();
+
+        // WHEN
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO usuarios (nome, email, pontuacao_total, ativo, data_cadastro) "
+                    + "VALUES ('Maria Santos', 'maria@teste.com', 0, TRUE, CURRENT_TIMESTAMP)");
+            cacheSegundoNivel.descartarConsultas(Usuario.REGIAO_CONSULTAS);
+        });
+
+        // THEN
+        assertThat(usuarioRepository.findByEmail_Endereco("maria@teste.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Gravar visualizações de conteúdos não deve descartar as consultas de usuários")
+    void gravarVisualizacoesNaoDeveDescartarConsultasDeUsuarios() {
+        // GIVEN
+        Conteudo conteudo = conteudoRepository.save(Conteudo.builder()
+                .autor(usuario)
+                .titulo("Introdução ao TDD")
+                .texto("Texto do conteúdo.")
+                .tipo(TipoConteudo.ARTIGO)
+                .build());
+        assertThat(usuarioRepository.findByEmail_Endereco("joao@teste.com")).isPresent();
+        long acertos = estatisticas.getQueryCacheHitCount();
+
+        // WHEN
+        visualizacoes.registrarVisualizacao(conteudo.getId());
+        visualizacoes.descarregar();
+
+        // THEN
+        assertThat(usuarioRepository.findByEmail_Endereco("joao@teste.com")).isPresent();
+        assertThat(estatisticas.getQueryCacheHitCount()).isEqualTo(acertos + 1);
+    }
+
+    @Test
+    @DisplayName("Email em formato inválido não deve encontrar usuário")
+    void emailInvalidoNaoDeveEncontrarUsuario() {
+        assertThat(usuarioRepository.buscarPorEmail("nao-e-email")).isEmpty();
+    }
+}
@@ -2,15 +2,18 @@ package com.example.tdd_projeto.domain.repository;
 
 import com.example.tdd_projeto.domain.entity.Usuario;
 import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.UsuarioDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -228,4 +231,75 @@ class UsuarioRepositoryTest {
         // THEN
         assertThat(usuarioAtualizado.getPontuacaoTotal()).isEqualTo(150);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Deve paginar o ranking por chave (pontuação, id)")
+    void devePaginarRankingPorChave() {
+        // GIVEN - dois usuários empatados na fronteira entre páginas
+        int[] pontuacoes = {300, 200, 200, 100, 50};
+        for (int i = 0; i < pontuacoes.length; i++) {
+            entityManager.persist(Usuario.builder()
+                    .nome("Usuario " + i)
+                    .email(Email.de("user" + i + "@teste.com"))
+                    .pontuacaoTotal(pontuacoes[i])
+                    .ativo(true)
+                    .build());
+        }
+        entityManager.flush();
+        
+        // WHEN
+        List<Usuario> pagina1 = usuarioRepository.findTopUsuariosByPontuacao(Limit.of(2));
+        Usuario ultimo = pagina1.get(pagina1.size() - 1);
+        List<Usuario> pagina2 = usuarioRepository.findTopUsuariosByPontuacaoApos(
+                ultimo.getPontuacaoTotal(), ultimo.getId(), Limit.of(2));
+        Usuario ultimo2 = pagina2.get(pagina2.size() - 1);
+        List<Usuario> pagina3 = usuarioRepository.findTopUsuariosByPontuacaoApos(
+                ultimo2.getPontuacaoTotal(), ultimo2.getId(), Limit.of(2));
+        
+        // THEN
+        assertThat(pagina1).extracting(Usuario::getNome).containsExactly("Usuario 0", "Usuario 1");
+        assertThat(pagina2).extracting(Usuario::getNome).containsExactly("Usuario 2", "Usuario 3");
+        assertThat(pagina3).extracting(Usuario::getNome).containsExactly("Usuario 4");
+    }
+    
+    @Test
+    @DisplayName("Deve percorrer o ranking via Stream na mesma ordem da listagem")
+    void devePercorrerRankingViaStream() {
+        // GIVEN
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Usuario.builder()
+                    .nome("Usuario " + i)
+                    .email(Email.de("user" + i + "@teste.com"))
+                    .pontuacaoTotal(i * 10)
+                    .ativo(true)
+                    .build());
+        }
+        entityManager.flush();
+        
+        // WHEN
+        List<String> nomes;
+        try (Stream<Usuario> ranking = usuarioRepository.streamTopUsuariosByPontuacao()) {
+            nomes = ranking.map(Usuario::getNome).toList();
+        }
+        
+        // THEN
+        assertThat(nomes).containsExactly("Usuario 2", "Usuario 1", "Usuario 0");
+    }
+    
+    @Test
+    @DisplayName("Deve buscar usuário direto como DTO pelo email")
+    void deveBuscarUsuarioComoDTO() {
+        // GIVEN
+        Usuario salvo = entityManager.persistAndFlush(usuarioTeste);
+        entityManager.clear();
+        
+        // WHEN
+        Optional<UsuarioDTO> dto = usuarioRepository.findDTOByEmail("joao@teste.com");
+        
+        // THEN
+        assertThat(dto).isPresent();
+        assertThat(dto.get().getId()).isEqualTo(salvo.getId());
+        assertThat(dto.get().getEmail()).isEqualTo("joao@teste.com");
+        assertThat(dto.get().getPontuacaoTotal()).isEqualTo(100);
+    }
+}
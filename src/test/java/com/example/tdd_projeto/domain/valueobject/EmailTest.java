@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -99,4 +101,52 @@ class EmailTest {
         // THEN
         assertThat(email1).isNotEqualTo(email2);
     }
+    
+    @ParameterizedTest
+    @DisplayName("Validador deve concordar com a regex em casos de fronteira")
+    @ValueSource(strings = {
+        "a@b.cd", "a@b.c", "a@.cd", "a@b..cd", "a@b.c1", "a@b.cd.", "a@b-.cd", "a@-.cd",
+        "a@@b.cd", "a@b@c.de", ".@b.cd", "+@b.cd", "a@b.CD", "a@b.cD1", "a@1.23", "a@b.c-d",
+        "a@b.cd\n", "a\n@b.cd", "a@b.cdé", "é@b.cd", "@", "a@", "a@b", "a@b.", "ab.cd",
+        "a b@c.de", "a@b.c.de", "a@b.de.f", "a@b.de.fg", "a@b.de.f1g", "a@.", "a@..cd"
+    })
+    void validadorDeveConcordarComRegexNasFronteiras(String endereco) {
+        assertThat(Email.formatoValido(endereco))
+                .isEqualTo(Email.EMAIL_PATTERN.matcher(endereco).matches());
+    }
+    
+    @Test
+    @DisplayName("Validador deve concordar com a regex em entradas aleatórias")
+    void validadorDeveConcordarComRegexEmEntradasAleatorias() {
+        // GIVEN - alfabeto concentrado nos caracteres que mudam o resultado
+        char[] alfabeto = "ab.@-+_1Z é\n".toCharArray();
+        Random random = new Random(2025);
+        
+        // WHEN & THEN
+        for (int i = 0; i < 200_000; i++) {
+            char[] texto = new char[1 + random.nextInt(10)];
+            for (int j = 0; j < texto.length; j++) {
+                texto[j] = alfabeto[random.nextInt(alfabeto.length)];
+            }
+            String endereco = new String(texto);
+            assertThat(Email.formatoValido(endereco))
+                    .as(endereco)
+                    .isEqualTo(Email.EMAIL_PATTERN.matcher(endereco).matches());
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve devolver instância canônica para endereços repetidos")
+    void deveDevolverInstanciaCanonica() {
+        // WHEN
+        Email primeiro = Email.canonico("cache@domain.com");
+        Email segundo = Email.canonico("cache@domain.com");
+        
+        // THEN
+        assertThat(segundo).isSameAs(primeiro);
+        assertThat(segundo).isEqualTo(Email.de("cache@domain.com"));
+        assertThatThrownBy(() -> Email.canonico("invalido"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Email inválido");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.example.tdd_projeto.infrastructure.controller;
+
+import com.example.tdd_projeto.application.service.TendenciaConteudoService;
+import com.example.tdd_projeto.application.service.VisualizacaoContadorService;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.ConteudoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Testes do ConteudoController")
+class ConteudoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VisualizacaoContadorService contador;
+
+    @Autowired
+    private TendenciaConteudoService tendencias;
+
+    @Autowired
+    private ConteudoRepository conteudoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private Conteudo conteudo;
+
+    @BeforeEach
+    void setUp() {
+        Usuario autor = usuarioRepository.save(Usuario.builder()
+                .nome("Ana Costa")
+                .email(Email.de("ana@teste.com"))
+                .build());
+        conteudo = conteudoRepository.save(Conteudo.builder()
+                .autor(autor)
+                .titulo("Introdução ao TDD")
+                .texto("Escreva o teste antes do código.")
+                .tipo(TipoConteudo.ARTIGO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        contador.descarregar();
+        conteudoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        tendencias.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve contar uma visualização a cada leitura do conteúdo")
+    void deveContarVisualizacaoAoLerConteudo() throws Exception {
+        // WHEN
+        mockMvc.perform(get("/conteudos/{id}", conteudo.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Introdução ao TDD"))
+                .andExpect(jsonPath("$.visualizacoes").value(1));
+
+        // THEN
+        mockMvc.perform(get("/conteudos/{id}", conteudo.getId()))
+                .andExpect(jsonPath("$.visualizacoes").value(2));
+        contador.descarregar();
+        assertThat(contador.visualizacoes(conteudo.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 para conteúdo inexistente sem contar visualizações")
+    void deveResponder404ParaConteudoInexistente() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(get("/conteudos/{id}", conteudo.getId() + 1_000))
+                .andExpect(status().isNotFound());
+        contador.descarregar();
+        assertThat(contador.visualizacoes(conteudo.getId())).isZero();
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.tdd_projeto.infrastructure.controller;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.RankingConsultaService;
+import com.example.tdd_projeto.application.service.RankingSnapshotService;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.RankingRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Testes do RankingController")
+class RankingControllerTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RankingSnapshotService snapshotService;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private RankingConsultaService consultaService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    private Usuario joao;
+    private Usuario maria;
+
+    @BeforeEach
+    void setUp() {
+        joao = usuarioRepository.save(novoUsuario("João Silva", "joao@teste.com"));
+        maria = usuarioRepository.save(novoUsuario("Maria Santos", "maria@teste.com"));
+        engajar(joao, "POSTAGEM");
+        engajar(maria, "CURTIDA");
+        snapshotService.gerarSnapshot(PeriodoRanking.DIARIO, HOJE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rankingRepository.deleteAll();
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+        consultaService.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve escrever o ranking em fluxo com ETag e Last-Modified")
+    void deveEscreverRankingEmFluxo() throws Exception {
+        // WHEN
+        MvcResult resultado = mockMvc.perform(get("/rankings/DIARIO"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].usuarioNome").value("João Silva"))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andExpect(jsonPath("$[1].pontuacao").value(10));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando a ETag do cliente ainda for válida")
+    void deveResponderNaoModificado() throws Exception {
+        // GIVEN
+        String etag = mockMvc.perform(get("/rankings/DIARIO").param("pagina", "0"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // WHEN / THEN
+        mockMvc.perform(get("/rankings/DIARIO").param("pagina", "0")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para página negativa antes de iniciar o fluxo")
+    void deveRejeitarPaginaNegativa() throws Exception {
+        mockMvc.perform(get("/rankings/DIARIO").param("pagina", "-1"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Pontuação deve ser atualizada após engajamento (cenário 3)")
+    void pontuacaoDeveSerAtualizadaAposEngajamento() throws Exception {
+        // GIVEN
+        String caminho = "/rankings/DIARIO/usuarios/" + maria.getId();
+        String etag = mockMvc.perform(get(caminho))
+                .andExpect(jsonPath("$.pontuacao").value(10))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        engajar(maria, "CURTIDA");
+
+        // THEN
+        String novaEtag = mockMvc.perform(get(caminho).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pontuacao").value(20))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(novaEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 quando não houver snapshot do período")
+    void deveResponderNaoEncontradoSemSnapshot() throws Exception {
+        mockMvc.perform(get("/rankings/GERAL"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve exportar o snapshot em CSV")
+    void deveExportarCsv() throws Exception {
+        // WHEN
+        MvcResult resultado = mockMvc.perform(get("/rankings/DIARIO/exportacao"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        String csv = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"ranking-DIARIO-" + HOJE + ".csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv.lines()).containsExactly(
+                "posicao,pontuacao,variacao_posicao,usuario_id,usuario_nome,usuario_email",
+                "1,50,," + joao.getId() + ",João Silva,joao@teste.com",
+                "2,10,," + maria.getId() + ",Maria Santos,maria@teste.com");
+    }
+
+    @Test
+    @DisplayName("Deve exportar o snapshot em NDJSON compactado com gzip")
+    void deveExportarNdjsonGzip() throws Exception {
+        // WHEN
+        MvcResult resultado = mockMvc.perform(get("/rankings/DIARIO/exportacao")
+                        .param("formato", "NDJSON")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // THEN
+        String ndjson;
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+            ndjson = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(ndjson.lines()).hasSize(2);
+        assertThat(ndjson.lines().findFirst().orElseThrow())
+                .startsWith("{\"posicao\":1,\"pontuacao\":50,")
+                .contains("\"usuarioEmail\":\"joao@teste.com\"");
+    }
+
+    private void engajar(Usuario usuario, String tipo) {
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo(tipo)
+                .build());
+    }
+
+    private Usuario novoUsuario(String nome, String email) {
+        return Usuario.builder()
+                .nome(nome)
+                .email(Email.de(email))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build();
+    }
+}
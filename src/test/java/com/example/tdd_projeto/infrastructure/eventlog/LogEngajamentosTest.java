@@ -0,0 +1,191 @@
+package com.example.tdd_projeto.infrastructure.eventlog;
+
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do LogEngajamentos")
+class LogEngajamentosTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2025, 11, 5, 10, 30, 15, 123_000_000);
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    @DisplayName("Deve reler os registros na ordem em que foram gravados")
+    void deveRelerRegistros() throws IOException {
+        // GIVEN
+        EngajamentoDTO postagem = engajamento(1L, 10L, "POSTAGEM", 50, AGORA);
+        postagem.setId(7L);
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 100)) {
+            log.anexar(List.of(postagem, engajamento(2L, null, "CURTIDA", 10, AGORA.plusSeconds(1))));
+        }
+
+        // WHEN
+        List<String> lidos = new ArrayList<>();
+        long total = LogEngajamentos.ler(diretorio, 0,
+                (engajamentoId, usuarioId, conteudoId, tipo, remocao, pontos, epochMillis) ->
+                        lidos.add(engajamentoId + "/" + usuarioId + "/" + conteudoId + "/" + tipo + "/" + pontos + "/"
+                                + LogEngajamentos.dataHora(epochMillis)));
+
+        // THEN - sem id, o registro guarda 0
+        assertThat(total).isEqualTo(2);
+        assertThat(lidos).containsExactly(
+                "7/1/10/POSTAGEM/50/" + AGORA,
+                "0/2/0/CURTIDA/10/" + AGORA.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Deve abrir um novo segmento quando o atual enche e continuar após reabrir")
+    void deveRolarSegmentos() throws IOException {
+        // GIVEN - segmentos de 4 registros
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 4)) {
+            log.anexar(engajamentos(6));
+        }
+
+        // WHEN
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 4)) {
+            assertThat(log.getProximaSequencia()).isEqualTo(6);
+            log.anexar(engajamentos(5));
+            assertThat(log.getProximaSequencia()).isEqualTo(11);
+        }
+
+        // THEN
+        assertThat(segmentos()).containsExactly(
+                "00000000000000000000.log", "00000000000000000004.log", "00000000000000000008.log");
+        List<Long> usuarios = new ArrayList<>();
+        LogEngajamentos.ler(diretorio, 0, (i, usuarioId, c, t, r, p, e) -> usuarios.add(usuarioId));
+        assertThat(usuarios).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(LogEngajamentos.ler(diretorio, 9, (i, u, c, t, r, p, e) -> { })).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o registro pela metade no fim do log e sobrescrevê-lo")
+    void deveDescartarRegistroIncompleto() throws IOException {
+        // GIVEN
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 10)) {
+            log.anexar(engajamentos(3));
+        }
+        corromper(diretorio.resolve("00000000000000000000.log"), 2);
+
+        // WHEN
+        assertThat(LogEngajamentos.ler(diretorio, 0, (i, u, c, t, r, p, e) -> { })).isEqualTo(2);
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 10)) {
+            log.anexar(engajamentos(1));
+        }
+
+        // THEN
+        assertThat(LogEngajamentos.ler(diretorio, 0, (i, u, c, t, r, p, e) -> { })).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao encontrar registro corrompido em um segmento fechado")
+    void deveFalharComSegmentoCorrompido() throws IOException {
+        // GIVEN
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 2)) {
+            log.anexar(engajamentos(3));
+        }
+        corromper(diretorio.resolve("00000000000000000000.log"), 1);
+
+        // THEN
+        assertThatThrownBy(() -> LogEngajamentos.ler(diretorio, 0, (i, u, c, t, r, p, e) -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Registro corrompido");
+    }
+
+    @Test
+    @DisplayName("Deve somar os pontos do log por usuário e por dia")
+    void deveAgregarPorUsuarioEDia() throws IOException {
+        // GIVEN
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 100)) {
+            log.anexar(List.of(
+                    engajamento(1L, 10L, "POSTAGEM", 50, AGORA),
+                    engajamento(1L, 10L, "CURTIDA", 10, AGORA.withHour(23).withMinute(59)),
+                    engajamento(1L, 11L, "RESPOSTA", 30, AGORA.plusDays(1).withHour(0)),
+                    engajamento(2L, 10L, "COMENTARIO", 20, AGORA)));
+        }
+
+        // WHEN
+        ReprocessadorLogEngajamentos.Agregados agregados = ReprocessadorLogEngajamentos.agregar(diretorio);
+
+        // THEN
+        LocalDate dia = AGORA.toLocalDate();
+        assertThat(agregados.getRegistros()).isEqualTo(4);
+        assertThat(agregados.getTotais()).containsEntry(1L, 90).containsEntry(2L, 20);
+        assertThat(agregados.getSomasDiarias().get(1L))
+                .containsEntry(dia, 60)
+                .containsEntry(dia.plusDays(1), 30)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Remoções devem ser relidas como estornos e descontadas da soma")
+    void remocoesDevemSerDescontadas() throws IOException {
+        // GIVEN
+        EngajamentoDTO postagem = engajamento(1L, 10L, "POSTAGEM", 50, AGORA);
+        try (LogEngajamentos log = new LogEngajamentos(diretorio, 100)) {
+            log.anexar(List.of(postagem, engajamento(1L, 10L, "CURTIDA", 10, AGORA)));
+            log.anexarRemocoes(List.of(postagem));
+        }
+
+        // WHEN
+        List<String> lidos = new ArrayList<>();
+        LogEngajamentos.ler(diretorio, 0, (i, u, c, tipo, remocao, pontos, e) ->
+                lidos.add(tipo + "/" + remocao + "/" + pontos));
+        ReprocessadorLogEngajamentos.Agregados agregados = ReprocessadorLogEngajamentos.agregar(diretorio);
+
+        // THEN
+        assertThat(lidos).containsExactly("POSTAGEM/false/50", "CURTIDA/false/10", "POSTAGEM/true/-50");
+        assertThat(agregados.getTotais()).containsEntry(1L, 10);
+        assertThat(agregados.getSomasDiarias().get(1L)).containsEntry(AGORA.toLocalDate(), 10);
+    }
+
+    private static void corromper(Path segmento, int registro) throws IOException {
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), (long) registro * LogEngajamentos.TAMANHO_REGISTRO + 3);
+        }
+    }
+
+    private List<String> segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.map(p -> p.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static List<EngajamentoDTO> engajamentos(int quantidade) {
+        List<EngajamentoDTO> engajamentos = new ArrayList<>();
+        for (int i = 1; i <= quantidade; i++) {
+            engajamentos.add(engajamento((long) i, null, TipoEngajamento.CURTIDA.name(), i, AGORA.plusMinutes(i)));
+        }
+        return engajamentos;
+    }
+
+    private static EngajamentoDTO engajamento(Long usuarioId, Long conteudoId, String tipo, int pontos,
+                                              LocalDateTime data) {
+        return EngajamentoDTO.builder()
+                .usuarioId(usuarioId)
+                .conteudoId(conteudoId)
+                .tipo(tipo)
+                .pontos(pontos)
+                .dataEngajamento(data)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.tdd_projeto.infrastructure.eventlog;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "engajamento.log.habilitado=true",
+        "engajamento.log.diretorio=${java.io.tmpdir}/engajamentos-log-${random.uuid}",
+        "engajamento.log.registros-por-segmento=1024"
+})
+@DisplayName("Testes do ReprocessadorLogEngajamentos")
+class ReprocessadorLogEngajamentosTest {
+
+    @Autowired
+    private ReprocessadorLogEngajamentos reprocessador;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private PontuacaoPeriodoService pontuacaoPeriodoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Lia Prado")
+                .email(Email.de("lia@teste.com"))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Remoções pela ingestão, para que os estornos também entrem no log
+        ingestaoService.remover(engajamentoRepository.findAll().stream().map(Engajamento::getId).toList());
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+    }
+
+    @Test
+    @DisplayName("Log que confere com a tabela deve reconstruir os agregados")
+    void logConferidoDeveReconstruirAgregados() {
+        // GIVEN
+        enviar("POSTAGEM");
+        enviar("CURTIDA");
+        enviar("COMENTARIO");
+        Long curtida = engajamentoRepository.findAll().stream()
+                .filter(e -> e.getPontos() == 10)
+                .map(Engajamento::getId)
+                .findFirst().orElseThrow();
+        ingestaoService.remover(List.of(curtida));
+        pontuacaoPeriodoRepository.deleteAll();
+
+        // WHEN
+        reprocessador.reconstruir();
+
+        // THEN
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isEqualTo(50 + 20);
+    }
+
+    @Test
+    @DisplayName("Engajamento ausente do log deve impedir a reconstrução")
+    void engajamentoAusenteDoLogDeveImpedirReconstrucao() {
+        // GIVEN - gravado fora da ingestão, não chega ao log
+        enviar("POSTAGEM");
+        jdbcTemplate.update("INSERT INTO engajamentos (usuario_id, tipo, pontos, data_engajamento) "
+                + "VALUES (?, 'CURTIDA', 10, CURRENT_TIMESTAMP)", usuario.getId());
+
+        // WHEN / THEN - nada é regravado
+        assertThatThrownBy(() -> reprocessador.reconstruir())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("não confere");
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isEqualTo(50);
+
+        // Sai também por fora do log, para não deixar um estorno sem par para os outros testes
+        jdbcTemplate.update("DELETE FROM engajamentos WHERE tipo = 'CURTIDA'");
+        reprocessador.reconstruir();
+    }
+
+    private void enviar(String tipo) {
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo(tipo)
+                .build());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.tdd_projeto.infrastructure.importacao;
+
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.RankingConsultaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "importacao.tamanho-lote=2")
+@DisplayName("Testes do ImportadorDados")
+class ImportadorDadosTest {
+
+    @Autowired
+    private ImportadorDados importador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private RankingConsultaService consultaService;
+
+    @TempDir
+    private Path diretorio;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM importacoes");
+        jdbcTemplate.update("DELETE FROM engajamentos");
+        jdbcTemplate.update("DELETE FROM elegibilidades_recompensa");
+        jdbcTemplate.update("DELETE FROM pontuacoes_periodo");
+        jdbcTemplate.update("DELETE FROM conteudos");
+        jdbcTemplate.update("DELETE FROM usuarios");
+        placar.limpar();
+        consultaService.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve importar usuários, conteúdos e engajamentos resolvendo os emails")
+    void deveImportarEntidades() throws IOException {
+        // GIVEN
+        Path usuarios = escrever("usuarios.csv", """
+                nome,email,pontuacao_total,ativo
+                "Souza, Ana",ana@teste.com,10,true
+                Bruno Lima,bruno@teste.com,,
+                Email Ruim,nao-e-email,0,true
+                Ana Repetida,ana@teste.com,0,true
+                """);
+        Path conteudos = escrever("conteudos.ndjson", """
+                {"autor_email":"ana@teste.com","titulo":"TDD","texto":"Linha 1\\nLinha 2","tipo":"artigo"}
+                {"autor_email":"ninguem@teste.com","titulo":"Órfão","texto":"x","tipo":"ARTIGO"}
+                """);
+        Path engajamentos = escrever("engajamentos.csv", """
+                usuario_email,tipo,pontos,data_engajamento
+                ana@teste.com,CURTIDA,,2025-11-05T10:00:00
+                bruno@teste.com,POSTAGEM,,2025-11-05
+                ana@teste.com,RESPOSTA,5,2025-11-06T08:00:00
+                ninguem@teste.com,CURTIDA,,2025-11-05T10:00:00
+                """);
+
+        // WHEN
+        ResultadoImportacao resultadoUsuarios = importador.importar(EntidadeImportacao.USUARIOS, usuarios);
+        ResultadoImportacao resultadoConteudos = importador.importar(EntidadeImportacao.CONTEUDOS, conteudos);
+        ResultadoImportacao resultadoEngajamentos = importador.importar(EntidadeImportacao.ENGAJAMENTOS, engajamentos);
+
+        // THEN
+        assertThat(resultadoUsuarios.getGravados()).isEqualTo(2);
+        assertThat(resultadoUsuarios.getRejeitados()).isEqualTo(2);
+        assertThat(resultadoConteudos.getGravados()).isEqualTo(1);
+        assertThat(resultadoConteudos.getRejeitados()).isEqualTo(1);
+        assertThat(resultadoEngajamentos.getGravados()).isEqualTo(3);
+        assertThat(resultadoEngajamentos.getRejeitados()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT nome FROM usuarios WHERE email = 'ana@teste.com'", String.class))
+                .isEqualTo("Souza, Ana");
+        assertThat(jdbcTemplate.queryForObject("SELECT texto FROM conteudos", String.class))
+                .isEqualTo("Linha 1\nLinha 2");
+        // A pontuação_total do arquivo é ignorada: só os engajamentos somam
+        assertThat(pontuacao("ana@teste.com")).isEqualTo(10 + 5);
+        assertThat(pontuacao("bruno@teste.com")).isEqualTo(50);
+        Long anaId = jdbcTemplate.queryForObject("SELECT id FROM usuarios WHERE email = 'ana@teste.com'", Long.class);
+        assertThat(placar.pontuacao(anaId)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Deve continuar do primeiro registro não gravado após uma falha")
+    void deveRetomarAposFalha() throws IOException {
+        // GIVEN - a quarta linha não é JSON válido
+        escrever("usuarios.csv", "nome,email\nAna Souza,ana@teste.com\n");
+        importador.importar(EntidadeImportacao.USUARIOS, diretorio.resolve("usuarios.csv"));
+        String linha = "{\"usuario_email\":\"ana@teste.com\",\"tipo\":\"CURTIDA\"}\n";
+        Path engajamentos = escrever("engajamentos.ndjson", linha + linha + linha + "{quebrado\n" + linha);
+
+        // WHEN
+        assertThatThrownBy(() -> importador.importar(EntidadeImportacao.ENGAJAMENTOS, engajamentos))
+                .isInstanceOf(RuntimeException.class);
+        long gravadosAntes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM engajamentos", Long.class);
+        escrever("engajamentos.ndjson", linha + linha + linha + linha + linha);
+        ResultadoImportacao resultado = importador.importar(EntidadeImportacao.ENGAJAMENTOS, engajamentos);
+
+        // THEN - os dois primeiros lotes já gravados não são repetidos
+        assertThat(gravadosAntes).isEqualTo(2);
+        assertThat(resultado.getRetomadoDe()).isEqualTo(2);
+        assertThat(resultado.getGravados()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM engajamentos", Long.class)).isEqualTo(5);
+        assertThat(pontuacao("ana@teste.com")).isEqualTo(50);
+
+        // Rodar de novo não grava nada
+        assertThat(importador.importar(EntidadeImportacao.ENGAJAMENTOS, engajamentos).getRegistros()).isZero();
+    }
+
+    private int pontuacao(String email) {
+        return jdbcTemplate.queryForObject("SELECT pontuacao_total FROM usuarios WHERE email = ?", Integer.class, email);
+    }
+
+    private Path escrever(String nome, String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve(nome), conteudo);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.tdd_projeto.infrastructure.metrics;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "metricas.entidades.intervalo-ms=0")
+@DisplayName("Testes das métricas de entidades, repositórios e ingestão")
+class MetricasEntidadesTest {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Paulo Souza")
+                .email(Email.de("paulo@teste.com"))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve contar registros e engajamentos ingeridos por tipo")
+    void deveContarRegistrosEEngajamentosPorTipo() {
+        // GIVEN
+        double curtidasAntes = registry.get("engajamentos.ingeridos").tag("tipo", "CURTIDA").counter().count();
+
+        // WHEN
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo("CURTIDA")
+                .build());
+
+        // THEN
+        assertThat(registry.get("engajamentos.ingeridos").tag("tipo", "CURTIDA").counter().count())
+                .isEqualTo(curtidasAntes + 1);
+        assertThat(registry.get("entidades.registros").tag("entidade", "usuarios").gauge().value())
+                .isEqualTo(1);
+        assertThat(registry.get("engajamentos.registros").tag("tipo", "CURTIDA").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Contagens devem ser reaproveitadas dentro do intervalo")
+    void contagensDevemSerReaproveitadasNoIntervalo() {
+        // GIVEN - intervalo longo, primeira coleta
+        SimpleMeterRegistry coletor = new SimpleMeterRegistry();
+        new MetricasEntidades(jdbcTemplate, 60_000).bindTo(coletor);
+        assertThat(coletor.get("entidades.registros").tag("entidade", "usuarios").gauge().value()).isEqualTo(1);
+
+        // WHEN
+        usuarioRepository.save(Usuario.builder()
+                .nome("Rita Alves")
+                .email(Email.de("rita@teste.com"))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+
+        // THEN - ainda o valor da primeira coleta
+        assertThat(coletor.get("entidades.registros").tag("entidade", "usuarios").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve medir o tempo de cada método de repositório")
+    void deveMedirMetodosDeRepositorio() {
+        // WHEN
+        usuarioRepository.findByAtivoTrue();
+
+        // THEN
+        assertThat(registry.get("spring.data.repository.invocations")
+                .tag("repository", "UsuarioRepository")
+                .tag("method", "findByAtivoTrue")
+                .timer().count()).isPositive();
+    }
+}
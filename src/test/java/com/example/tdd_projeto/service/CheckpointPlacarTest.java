@@ -0,0 +1,177 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.CheckpointPlacar;
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "placar.checkpoint.habilitado=true",
+        "placar.checkpoint.arquivo=target/checkpoint-teste/placar.chk"
+})
+@DisplayName("Testes do CheckpointPlacar")
+class CheckpointPlacarTest {
+
+    @Autowired
+    private CheckpointPlacar checkpoint;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.deleteIfExists(checkpoint.getArquivo());
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Paulo Souza")
+                .email(Email.de("paulo@teste.com"))
+                .pontuacaoTotal(100)
+                .ativo(true)
+                .build());
+        placar.limpar();
+        placar.atualizar(usuario.getId(), 100);
+        placar.atualizar(usuario.getId() + 1_000, 300);
+        placar.atualizar(usuario.getId() + 2_000, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o placar gravado no checkpoint")
+    void deveRestaurarPlacar() {
+        // GIVEN
+        checkpoint.gravar();
+        placar.limpar();
+
+        // WHEN
+        boolean restaurado = checkpoint.restaurar();
+
+        // THEN
+        assertThat(restaurado).isTrue();
+        assertThat(placar.top(3)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactly(usuario.getId() + 1_000, usuario.getId(), usuario.getId() + 2_000);
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve somar apenas os engajamentos gravados depois do checkpoint")
+    void deveSomarEngajamentosPosteriores() {
+        // GIVEN
+        ingestaoService.enviarEAguardar(curtida());
+        checkpoint.gravar();
+        ingestaoService.enviarEAguardar(curtida());
+        placar.limpar();
+
+        // WHEN
+        checkpoint.restaurar();
+
+        // THEN - 100 + 10 do checkpoint, mais 10 do engajamento posterior
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Engajamento inserido pela JPA depois do checkpoint não deve entrar no placar")
+    void engajamentoDaJpaNaoDeveEntrarNoPlacar() {
+        // GIVEN - a JPA não soma pontos em pontuacao_total nem no placar
+        checkpoint.gravar();
+        Engajamento engajamento = new Engajamento();
+        engajamento.setUsuario(usuario);
+        engajamento.definirTipo(TipoEngajamento.POSTAGEM);
+        engajamentoRepository.save(engajamento);
+        ingestaoService.enviarEAguardar(curtida());
+        placar.limpar();
+
+        // WHEN
+        checkpoint.restaurar();
+
+        // THEN - só a curtida da ingestão é somada
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("Remover engajamento já refletido no checkpoint deve invalidá-lo")
+    void remocaoDeveInvalidarCheckpoint() {
+        // GIVEN
+        ingestaoService.enviarEAguardar(curtida());
+        checkpoint.gravar();
+        Long engajamentoId = engajamentoRepository.findAll().get(0).getId();
+
+        // WHEN
+        ingestaoService.remover(List.of(engajamentoId));
+
+        // THEN - sem checkpoint até a próxima gravação, que já não tem a curtida
+        assertThat(checkpoint.getArquivo()).doesNotExist();
+        checkpoint.gravar();
+        placar.limpar();
+        assertThat(checkpoint.restaurar()).isTrue();
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar checkpoint com CRC inválido")
+    void deveIgnorarCheckpointCorrompido() throws IOException {
+        // GIVEN
+        checkpoint.gravar();
+        try (FileChannel canal = FileChannel.open(checkpoint.getArquivo(), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {42}), 40);
+        }
+        placar.limpar();
+
+        // THEN
+        assertThat(checkpoint.restaurar()).isFalse();
+        assertThat(placar.tamanho()).isZero();
+    }
+
+    private EngajamentoDTO curtida() {
+        return EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo("CURTIDA")
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.CacheSegundoNivel;
+import com.example.tdd_projeto.application.service.ElegibilidadeRecompensaService;
+import com.example.tdd_projeto.application.service.GravadorLoteEngajamentos;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa;
+import com.example.tdd_projeto.domain.entity.ElegibilidadeRecompensa.SituacaoElegibilidade;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "recompensa.limite-padrao=100",
+        "recompensa.limites.2025-12=200",
+        "recompensa.limites.2026-01=0"
+})
+@Import({ElegibilidadeRecompensaService.class, GravadorLoteEngajamentos.class, PontuacaoPeriodoService.class,
+         CacheSegundoNivel.class})
+@DisplayName("Testes do ElegibilidadeRecompensaService")
+class ElegibilidadeRecompensaServiceTest {
+
+    private static final YearMonth NOVEMBRO = YearMonth.of(2025, 11);
+    private static final YearMonth DEZEMBRO = YearMonth.of(2025, 12);
+    private static final YearMonth JANEIRO = YearMonth.of(2026, 1);
+
+    @Autowired
+    private ElegibilidadeRecompensaService elegibilidadeService;
+
+    @Autowired
+    private GravadorLoteEngajamentos gravador;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Usuario ana;
+    private Usuario bruno;
+
+    @BeforeEach
+    void setUp() {
+        ana = usuario("Ana Lima", "ana@teste.com");
+        bruno = usuario("Bruno Reis", "bruno@teste.com");
+    }
+
+    @Test
+    @DisplayName("Cruzamento do limite deve ser registrado uma única vez, no lote que o atinge")
+    void cruzamentoDeveSerRegistradoUmaUnicaVez() {
+        // GIVEN - abaixo do limite
+        gravador.gravar(List.of(engajamento(ana, 60, NOVEMBRO.atDay(3))));
+        assertThat(repository.count()).isZero();
+
+        // WHEN - o segundo lote cruza o limite e os seguintes continuam acima dele
+        gravador.gravar(List.of(engajamento(ana, 50, NOVEMBRO.atDay(10)), engajamento(bruno, 30, NOVEMBRO.atDay(10))));
+        gravador.gravar(List.of(engajamento(ana, 50, NOVEMBRO.atDay(20))));
+        gravador.gravar(List.of(engajamento(ana, 10, NOVEMBRO.atDay(21))));
+
+        // THEN
+        List<ElegibilidadeRecompensa> elegiveis = elegibilidadeService.listar(NOVEMBRO, SituacaoElegibilidade.ELEGIVEL);
+        assertThat(elegiveis).hasSize(1);
+        assertThat(elegiveis.get(0).getUsuario().getId()).isEqualTo(ana.getId());
+        assertThat(elegiveis.get(0).getPontos()).isEqualTo(110);
+        assertThat(elegiveis.get(0).getLimite()).isEqualTo(100);
+        assertThat(elegiveis.get(0).getMes()).isEqualTo(NOVEMBRO.atDay(1));
+    }
+
+    @Test
+    @DisplayName("Cada mês deve usar o próprio limite, e limite zero desativa o mês")
+    void cadaMesDeveUsarOProprioLimite() {
+        // WHEN - 150 pontos em cada mês, no mesmo lote
+        gravador.gravar(List.of(
+                engajamento(ana, 150, NOVEMBRO.atDay(30)),
+                engajamento(ana, 150, DEZEMBRO.atDay(1)),
+                engajamento(ana, 150, JANEIRO.atDay(1))));
+
+        // THEN
+        assertThat(elegibilidadeService.limite(NOVEMBRO)).isEqualTo(100);
+        assertThat(elegibilidadeService.limite(DEZEMBRO)).isEqualTo(200);
+        assertThat(elegibilidadeService.listar(NOVEMBRO, SituacaoElegibilidade.ELEGIVEL)).hasSize(1);
+        assertThat(elegibilidadeService.listar(DEZEMBRO, SituacaoElegibilidade.ELEGIVEL)).isEmpty();
+        assertThat(elegibilidadeService.listar(JANEIRO, SituacaoElegibilidade.ELEGIVEL)).isEmpty();
+
+        // WHEN - dezembro chega ao limite maior
+        gravador.gravar(List.of(engajamento(ana, 50, DEZEMBRO.atDay(2))));
+
+        // THEN
+        assertThat(elegibilidadeService.listar(DEZEMBRO, SituacaoElegibilidade.ELEGIVEL))
+                .extracting(ElegibilidadeRecompensa::getPontos)
+                .containsExactly(200);
+    }
+
+    @Test
+    @DisplayName("Fechamento deve conceder só as elegibilidades já registradas até o mês")
+    void fechamentoDeveConcederSoAsElegibilidadesRegistradas() {
+        // GIVEN
+        gravador.gravar(List.of(
+                engajamento(ana, 100, NOVEMBRO.atDay(5)),
+                engajamento(bruno, 99, NOVEMBRO.atDay(5)),
+                engajamento(bruno, 300, DEZEMBRO.atDay(5))));
+
+        // WHEN
+        int concedidas = elegibilidadeService.finalizarAte(NOVEMBRO);
+        entityManager.clear();
+
+        // THEN
+        assertThat(concedidas).isEqualTo(1);
+        assertThat(elegibilidadeService.listar(NOVEMBRO, SituacaoElegibilidade.CONCEDIDA))
+                .singleElement()
+                .satisfies(elegibilidade -> {
+                    assertThat(elegibilidade.getUsuario().getId()).isEqualTo(ana.getId());
+                    assertThat(elegibilidade.getDataFinalizacao()).isNotNull();
+                });
+        assertThat(repository.countByMesAndSituacao(DEZEMBRO.atDay(1), SituacaoElegibilidade.ELEGIVEL)).isEqualTo(1);
+
+        // WHEN - engajamento retroativo cruza o limite de um mês já fechado
+        gravador.gravar(List.of(engajamento(bruno, 1, NOVEMBRO.atDay(28))));
+        assertThat(elegibilidadeService.finalizarAte(NOVEMBRO)).isEqualTo(1);
+        entityManager.clear();
+
+        // THEN
+        assertThat(elegibilidadeService.listar(NOVEMBRO, SituacaoElegibilidade.CONCEDIDA)).hasSize(2);
+        assertThat(elegibilidadeService.finalizarAte(NOVEMBRO)).isZero();
+    }
+
+    private Usuario usuario(String nome, String email) {
+        return entityManager.persistAndFlush(Usuario.builder()
+                .nome(nome)
+                .email(Email.de(email))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+    }
+
+    private static EngajamentoDTO engajamento(Usuario usuario, int pontos, LocalDate dia) {
+        return EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo("POSTAGEM")
+                .pontos(pontos)
+                .dataEngajamento(dia.atTime(12, 0))
+                .build();
+    }
+}
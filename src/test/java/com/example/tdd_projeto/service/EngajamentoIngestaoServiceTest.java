@@ -0,0 +1,233 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.GravadorLoteEngajamentos;
+import com.example.tdd_projeto.application.service.JanelaDeslizanteService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("Testes do EngajamentoIngestaoService")
+class EngajamentoIngestaoServiceTest {
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private GravadorLoteEngajamentos gravador;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Paulo Souza")
+                .email(Email.de("paulo@teste.com"))
+                .pontuacaoTotal(50)
+                .ativo(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar engajamentos em lote e somar os pontos do usuário")
+    void deveGravarEmLoteESomarPontos() {
+        // GIVEN
+        List<CompletableFuture<Void>> gravados = new ArrayList<>();
+
+        // WHEN
+        for (int i = 0; i < 1_000; i++) {
+            gravados.add(ingestaoService.enviar(EngajamentoDTO.builder()
+                    .usuarioId(usuario.getId())
+                    .tipo("CURTIDA")
+                    .build()));
+        }
+        CompletableFuture.allOf(gravados.toArray(new CompletableFuture[0])).join();
+
+        // THEN
+        assertThat(engajamentoRepository.count()).isEqualTo(1_000);
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal())
+                .isEqualTo(50 + 1_000 * 10);
+    }
+
+    @Test
+    @DisplayName("Pontuação deve ser atualizada após engajamento (cenário 3)")
+    void pontuacaoDeveSerAtualizadaAposEngajamento() {
+        // WHEN
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo("CURTIDA")
+                .build());
+
+        // THEN
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal())
+                .isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Futuro deve falhar quando o lote não puder ser gravado")
+    void futuroDeveFalharQuandoLoteFalhar() {
+        // WHEN
+        CompletableFuture<Void> gravado = ingestaoService.enviar(EngajamentoDTO.builder()
+                .usuarioId(-1L)
+                .tipo("POSTAGEM")
+                .build());
+
+        // THEN
+        assertThatThrownBy(gravado::join).hasCauseInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("Evento inválido não deve derrubar os demais eventos do lote")
+    void eventoInvalidoNaoDeveDerrubarOLote() {
+        // GIVEN - enviados juntos, tendem a cair no mesmo lote
+        List<CompletableFuture<Void>> validos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            validos.add(ingestaoService.enviar(EngajamentoDTO.builder()
+                    .usuarioId(usuario.getId())
+                    .tipo("CURTIDA")
+                    .build()));
+        }
+        CompletableFuture<Void> invalido = ingestaoService.enviar(EngajamentoDTO.builder()
+                .usuarioId(-1L)
+                .tipo("POSTAGEM")
+                .build());
+        for (int i = 0; i < 20; i++) {
+            validos.add(ingestaoService.enviar(EngajamentoDTO.builder()
+                    .usuarioId(usuario.getId())
+                    .tipo("CURTIDA")
+                    .build()));
+        }
+
+        // WHEN
+        CompletableFuture.allOf(validos.toArray(new CompletableFuture[0])).join();
+
+        // THEN
+        assertThatThrownBy(invalido::join).hasCauseInstanceOf(RuntimeException.class);
+        assertThat(engajamentoRepository.count()).isEqualTo(40);
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal())
+                .isEqualTo(50 + 40 * 10);
+    }
+
+    @Test
+    @DisplayName("Falha após o commit não deve falhar os futuros de engajamentos já gravados")
+    void falhaAposCommitNaoDeveFalharOsFuturos() throws Exception {
+        // GIVEN - quem ouve a alteração de pontuação falha
+        ApplicationEventPublisher eventos = evento -> {
+            throw new IllegalStateException("ouvinte indisponível");
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EngajamentoIngestaoService ingestao = new EngajamentoIngestaoService(gravador, new PlacarRanking(),
+                new JanelaDeslizanteService(), eventos, registry, 100, 10, 10, 1_000);
+        ingestao.iniciar();
+
+        // WHEN
+        try {
+            ingestao.enviarEAguardar(EngajamentoDTO.builder()
+                    .usuarioId(usuario.getId())
+                    .tipo("CURTIDA")
+                    .build());
+        } finally {
+            ingestao.parar();
+        }
+
+        // THEN
+        assertThat(engajamentoRepository.count()).isEqualTo(1);
+        assertThat(registry.counter("engajamentos.ingestao.falhas-pos-commit").count()).isEqualTo(1);
+        assertThat(registry.counter("engajamentos.ingestao.falhas").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Falha que não vem dos dados deve falhar o lote inteiro sem dividi-lo")
+    void falhaQueNaoVemDosDadosNaoDeveDividirOLote() throws Exception {
+        // GIVEN - banco indisponível para qualquer lote
+        AtomicInteger tentativas = new AtomicInteger();
+        GravadorLoteEngajamentos indisponivel = new GravadorLoteEngajamentos(null, null, null, null, null) {
+            @Override
+            public Map<Long, Integer> gravar(List<EngajamentoDTO> lote) {
+                tentativas.incrementAndGet();
+                throw new DataAccessResourceFailureException("banco indisponível");
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EngajamentoIngestaoService ingestao = new EngajamentoIngestaoService(indisponivel, new PlacarRanking(),
+                new JanelaDeslizanteService(), evento -> { }, registry, 100, 10, 1_000, 1_000);
+        ingestao.iniciar();
+        List<CompletableFuture<Void>> enviados = new ArrayList<>();
+
+        // WHEN - o linger longo junta os dez envios em um único lote
+        try {
+            for (int i = 0; i < 10; i++) {
+                enviados.add(ingestao.enviar(EngajamentoDTO.builder()
+                        .usuarioId(usuario.getId())
+                        .tipo("CURTIDA")
+                        .build()));
+            }
+            CompletableFuture.allOf(enviados.toArray(new CompletableFuture[0]))
+                    .exceptionally(e -> null).join();
+        } finally {
+            ingestao.parar();
+        }
+
+        // THEN
+        assertThat(tentativas).hasValue(1);
+        assertThat(enviados).allMatch(CompletableFuture::isCompletedExceptionally);
+        assertThat(registry.counter("engajamentos.ingestao.falhas").count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar engajamento sem tipo")
+    void naoDeveAceitarEngajamentoSemTipo() {
+        assertThatThrownBy(() -> ingestaoService.enviar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.JanelaDeslizanteService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do JanelaDeslizanteService")
+class JanelaDeslizanteServiceTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 3, 1);
+
+    private RelogioAjustavel relogio;
+    private JanelaDeslizanteService janelas;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioAjustavel(INICIO);
+        janelas = new JanelaDeslizanteService(relogio);
+    }
+
+    @Test
+    @DisplayName("Deve somar os pontos de cada janela")
+    void deveSomarPorJanela() {
+        // GIVEN
+        janelas.registrar(1L, INICIO, 10);
+        janelas.registrar(1L, INICIO.minusDays(3), 20);
+        janelas.registrar(1L, INICIO.minusDays(10), 40);
+
+        // THEN
+        assertThat(janelas.pontos(1L, 1)).isEqualTo(10);
+        assertThat(janelas.pontos(1L, 7)).isEqualTo(30);
+        assertThat(janelas.pontos(1L, 30)).isEqualTo(70);
+        assertThat(janelas.pontos(99L, 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar os dias que saem da janela quando o dia vira")
+    void deveAvancarQuandoODiaVira() {
+        // GIVEN
+        janelas.registrar(1L, INICIO, 10);
+
+        // WHEN
+        relogio.avancar(1);
+
+        // THEN
+        assertThat(janelas.pontos(1L, 1)).isZero();
+        assertThat(janelas.pontos(1L, 7)).isEqualTo(10);
+
+        relogio.avancar(6);
+        assertThat(janelas.pontos(1L, 7)).isZero();
+        assertThat(janelas.pontos(1L, 30)).isEqualTo(10);
+
+        relogio.avancar(40);
+        assertThat(janelas.pontos(1L, 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar dias fora da janela de 30 dias")
+    void deveIgnorarDiasForaDaJanela() {
+        // WHEN
+        janelas.registrar(1L, INICIO.minusDays(30), 10);
+        janelas.registrar(1L, INICIO.plusDays(1), 10);
+
+        // THEN
+        assertThat(janelas.pontos(1L, 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a soma direta dos pontos diários")
+    void deveCoincidirComSomaDireta() {
+        // GIVEN
+        Random random = new Random(42);
+        Map<LocalDate, Integer> porDia = new HashMap<>();
+
+        // WHEN - escritas espalhadas ao longo de 120 dias
+        for (int dia = 0; dia < 120; dia++) {
+            LocalDate hoje = relogio.hoje();
+            for (int i = 0; i < 5; i++) {
+                LocalDate data = hoje.minusDays(random.nextInt(35));
+                int pontos = random.nextInt(50);
+                janelas.registrar(1L, data, pontos);
+                if (!data.isBefore(hoje.minusDays(29))) {
+                    porDia.merge(data, pontos, Integer::sum);
+                }
+            }
+
+            // THEN
+            for (int dias : new int[] {1, 7, 30}) {
+                int esperado = 0;
+                for (int d = 0; d < dias; d++) {
+                    esperado += porDia.getOrDefault(hoje.minusDays(d), 0);
+                }
+                assertThat(janelas.pontos(1L, dias)).as("dia %s, janela %d", hoje, dias).isEqualTo(esperado);
+            }
+            relogio.avancar(1 + random.nextInt(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve listar os maiores pontuadores da janela")
+    void deveListarTop() {
+        // GIVEN
+        janelas.registrar(1L, INICIO, 5);
+        janelas.registrar(2L, INICIO.minusDays(10), 100);
+        janelas.registrar(3L, INICIO.minusDays(2), 30);
+        janelas.registrar(4L, INICIO, 30);
+
+        // THEN
+        assertThat(janelas.top(7, 2)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactly(3L, 4L);
+        assertThat(janelas.top(30, 10)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactly(2L, 3L, 4L, 1L);
+        assertThat(janelas.top(1, 10)).extracting(PlacarRanking.Entrada::getPontuacao)
+                .containsExactly(30, 5);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar janela diferente de 1, 7 ou 30 dias")
+    void naoDeveAceitarJanelaInvalida() {
+        assertThatThrownBy(() -> janelas.pontos(1L, 14))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Janela deve ser de 1, 7 ou 30 dias");
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+        private Instant agora;
+
+        private RelogioAjustavel(LocalDate dia) {
+            this.agora = dia.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        void avancar(int dias) {
+            agora = agora.plusSeconds(dias * 86_400L);
+        }
+
+        LocalDate hoje() {
+            return LocalDate.ofInstant(agora, ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
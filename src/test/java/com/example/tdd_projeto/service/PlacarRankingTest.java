@@ -0,0 +1,173 @@
+package com.example.tdd_projeto.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tdd_projeto.application.service.PlacarRanking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do PlacarRanking")
+class PlacarRankingTest {
+
+    private PlacarRanking placar;
+
+    @BeforeEach
+    void setUp() {
+        placar = new PlacarRanking();
+    }
+
+    @Test
+    @DisplayName("Deve calcular posição ordenando por pontuação decrescente")
+    void deveCalcularPosicao() {
+        // GIVEN
+        placar.atualizar(1L, 50);
+        placar.atualizar(2L, 200);
+        placar.atualizar(3L, 150);
+
+        // THEN
+        assertThat(placar.posicao(2L)).isEqualTo(1);
+        assertThat(placar.posicao(3L)).isEqualTo(2);
+        assertThat(placar.posicao(1L)).isEqualTo(3);
+        assertThat(placar.posicao(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Usuários empatados devem dividir a mesma posição")
+    void empatadosDevemDividirPosicao() {
+        // GIVEN
+        placar.atualizar(1L, 100);
+        placar.atualizar(2L, 100);
+        placar.atualizar(3L, 80);
+
+        // THEN
+        assertThat(placar.posicao(1L)).isEqualTo(1);
+        assertThat(placar.posicao(2L)).isEqualTo(1);
+        assertThat(placar.posicao(3L)).isEqualTo(3);
+        assertThat(placar.contarAcima(90)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve reposicionar usuário quando a pontuação muda")
+    void deveReposicionarAposAtualizacao() {
+        // GIVEN
+        placar.atualizar(1L, 10);
+        placar.atualizar(2L, 20);
+
+        // WHEN
+        placar.adicionarPontos(1L, 15);
+
+        // THEN
+        assertThat(placar.pontuacao(1L)).isEqualTo(25);
+        assertThat(placar.posicao(1L)).isEqualTo(1);
+        assertThat(placar.top(2)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve remover usuário do placar")
+    void deveRemoverUsuario() {
+        // GIVEN
+        placar.atualizar(1L, 10);
+        placar.atualizar(2L, 20);
+
+        // WHEN
+        placar.remover(2L);
+
+        // THEN
+        assertThat(placar.tamanho()).isEqualTo(1);
+        assertThat(placar.posicao(1L)).isEqualTo(1);
+        assertThat(placar.pontuacao(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar posição inicial menor que 1")
+    void naoDeveListarAPartirDePosicaoInvalida() {
+        assertThatThrownBy(() -> placar.listar(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve concordar com a ordenação completa após operações aleatórias")
+    void deveConcordarComOrdenacaoCompleta() {
+        // GIVEN
+        Random random = new Random(42);
+        Map<Long, Integer> esperado = new HashMap<>();
+
+        // WHEN
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                placar.remover(id);
+                esperado.remove(id);
+            } else {
+                int pontos = random.nextInt(300);
+                placar.atualizar(id, pontos);
+                esperado.put(id, pontos);
+            }
+        }
+
+        // THEN
+        List<Map.Entry<Long, Integer>> ordenado = new ArrayList<>(esperado.entrySet());
+        ordenado.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        assertThat(placar.tamanho()).isEqualTo(esperado.size());
+        assertThat(placar.top(esperado.size())).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactlyElementsOf(ordenado.stream().map(Map.Entry::getKey).toList());
+        for (Map.Entry<Long, Integer> entrada : ordenado) {
+            long maiores = esperado.values().stream().filter(p -> p > entrada.getValue()).count();
+            assertThat(placar.posicao(entrada.getKey())).isEqualTo(maiores + 1);
+        }
+        assertThat(placar.listar(10, 5)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactlyElementsOf(ordenado.subList(9, 14).stream().map(Map.Entry::getKey).toList());
+    }
+
+    @Test
+    @DisplayName("Placar restaurado em ordem deve se comportar como o construído por atualizações")
+    void placarRestauradoDeveSeComportarComoOriginal() {
+        // GIVEN
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            placar.atualizar((long) i, random.nextInt(400));
+        }
+        List<PlacarRanking.Entrada> entradas = placar.top(placar.tamanho());
+        long[] ids = entradas.stream().mapToLong(PlacarRanking.Entrada::getUsuarioId).toArray();
+        int[] pontos = entradas.stream().mapToInt(PlacarRanking.Entrada::getPontuacao).toArray();
+
+        // WHEN
+        PlacarRanking restaurado = new PlacarRanking();
+        restaurado.restaurar(ids, pontos, ids.length);
+
+        // THEN - consultas e atualizações seguintes continuam corretas
+        assertThat(restaurado.tamanho()).isEqualTo(2_000);
+        for (int i = 0; i < 2_000; i += 37) {
+            assertThat(restaurado.posicao((long) i)).isEqualTo(placar.posicao((long) i));
+        }
+        restaurado.adicionarPontos(1_999L, 1_000);
+        placar.adicionarPontos(1_999L, 1_000);
+        restaurado.remover(5L);
+        placar.remover(5L);
+        assertThat(restaurado.top(2_000)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactlyElementsOf(placar.top(2_000).stream().map(PlacarRanking.Entrada::getUsuarioId).toList());
+        assertThat(restaurado.listar(500, 10)).extracting(PlacarRanking.Entrada::getUsuarioId)
+                .containsExactlyElementsOf(placar.listar(500, 10).stream().map(PlacarRanking.Entrada::getUsuarioId).toList());
+    }
+
+    @Test
+    @DisplayName("Não deve restaurar entradas fora da ordem do ranking")
+    void naoDeveRestaurarForaDeOrdem() {
+        assertThatThrownBy(() -> placar.restaurar(new long[] {1L, 2L}, new int[] {10, 20}, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fora da ordem");
+    }
+}
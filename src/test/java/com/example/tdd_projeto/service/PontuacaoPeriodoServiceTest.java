@@ -0,0 +1,157 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.CacheSegundoNivel;
+import com.example.tdd_projeto.application.service.ElegibilidadeRecompensaService;
+import com.example.tdd_projeto.application.service.GravadorLoteEngajamentos;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PontuacaoPeriodoService.class, GravadorLoteEngajamentos.class, ElegibilidadeRecompensaService.class,
+         CacheSegundoNivel.class})
+@DisplayName("Testes do PontuacaoPeriodoService")
+class PontuacaoPeriodoServiceTest {
+
+    // Quarta-feira; a semana ISO começa em 2025-11-03
+    private static final LocalDate QUARTA = LocalDate.of(2025, 11, 5);
+
+    @Autowired
+    private PontuacaoPeriodoService pontuacaoPeriodoService;
+
+    @Autowired
+    private GravadorLoteEngajamentos gravador;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = entityManager.persistAndFlush(Usuario.builder()
+                .nome("Paulo Souza")
+                .email(Email.de("paulo@teste.com"))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve acumular pontos em todos os períodos ao gravar engajamentos")
+    void deveAcumularPontosEmTodosOsPeriodos() {
+        // WHEN
+        gravador.gravar(List.of(
+                engajamento("POSTAGEM", 50, QUARTA.atTime(10, 0)),
+                engajamento("CURTIDA", 10, QUARTA.atTime(18, 0)),
+                engajamento("RESPOSTA", 30, QUARTA.minusDays(3).atTime(9, 0)), // domingo da semana anterior
+                engajamento("CURTIDA", 10, QUARTA.minusMonths(1).atTime(9, 0))));
+
+        // THEN
+        assertThat(pontos(PeriodoRanking.DIARIO, QUARTA)).isEqualTo(60);
+        assertThat(pontos(PeriodoRanking.SEMANAL, QUARTA)).isEqualTo(60);
+        assertThat(pontos(PeriodoRanking.SEMANAL, QUARTA.minusDays(3))).isEqualTo(30);
+        assertThat(pontos(PeriodoRanking.MENSAL, QUARTA)).isEqualTo(90);
+        assertThat(pontos(PeriodoRanking.ANUAL, QUARTA)).isEqualTo(100);
+        assertThat(pontos(PeriodoRanking.GERAL, QUARTA)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Reconstrução a partir dos engajamentos deve gerar os mesmos agregados")
+    void reconstrucaoDeveGerarMesmosAgregados() {
+        // GIVEN
+        gravador.gravar(List.of(
+                engajamento("POSTAGEM", 50, QUARTA.atTime(10, 0)),
+                engajamento("COMENTARIO", 20, QUARTA.minusDays(10).atTime(10, 0))));
+        gravador.gravar(List.of(engajamento("CURTIDA", 10, QUARTA.atTime(11, 0))));
+
+        // WHEN
+        pontuacaoPeriodoService.reconstruir();
+
+        // THEN
+        assertThat(pontos(PeriodoRanking.DIARIO, QUARTA)).isEqualTo(60);
+        assertThat(pontos(PeriodoRanking.SEMANAL, QUARTA.minusDays(10))).isEqualTo(20);
+        assertThat(pontos(PeriodoRanking.GERAL, QUARTA)).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("Reconstrução a partir de somas diárias deve substituir os agregados")
+    void reconstrucaoPorSomasDiariasDeveSubstituirAgregados() {
+        // GIVEN
+        gravador.gravar(List.of(engajamento("CURTIDA", 10, QUARTA.minusYears(1).atTime(9, 0))));
+
+        // WHEN
+        pontuacaoPeriodoService.reconstruir(Map.of(usuario.getId(), Map.of(
+                QUARTA, 50,
+                QUARTA.minusDays(1), 30)));
+
+        // THEN
+        assertThat(pontos(PeriodoRanking.DIARIO, QUARTA)).isEqualTo(50);
+        assertThat(pontos(PeriodoRanking.SEMANAL, QUARTA)).isEqualTo(80);
+        assertThat(pontos(PeriodoRanking.ANUAL, QUARTA.minusYears(1))).isZero();
+        assertThat(pontos(PeriodoRanking.GERAL, QUARTA)).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("Registros seguidos no mesmo agregado devem somar, não substituir")
+    void registrosNoMesmoAgregadoDevemSomar() {
+        // WHEN - o primeiro cria os agregados e o segundo soma neles
+        pontuacaoPeriodoService.registrar(usuario.getId(), QUARTA, 30);
+        pontuacaoPeriodoService.registrar(usuario.getId(), QUARTA, 12);
+
+        // THEN
+        assertThat(pontos(PeriodoRanking.DIARIO, QUARTA)).isEqualTo(42);
+        assertThat(pontos(PeriodoRanking.GERAL, QUARTA)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Total de pontos do usuário deve vir do agregado geral")
+    void totalDoUsuarioDeveVirDoAgregadoGeral() {
+        // GIVEN
+        gravador.gravar(List.of(
+                engajamento("POSTAGEM", 50, QUARTA.atTime(10, 0)),
+                engajamento("CURTIDA", 10, QUARTA.minusYears(2).atTime(10, 0))));
+
+        // WHEN / THEN
+        assertThat(engajamentoRepository.calcularTotalPontosUsuario(usuario)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero quando não houver pontos no período")
+    void deveRetornarZeroSemPontos() {
+        assertThat(pontos(PeriodoRanking.MENSAL, QUARTA)).isZero();
+    }
+
+    private int pontos(PeriodoRanking periodo, LocalDate data) {
+        return pontuacaoPeriodoService.pontos(usuario.getId(), periodo, data);
+    }
+
+    private EngajamentoDTO engajamento(String tipo, int pontos, LocalDateTime quando) {
+        return EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo(tipo)
+                .pontos(pontos)
+                .dataEngajamento(quando)
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.JanelaDeslizanteService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.application.service.RankingConsultaService;
+import com.example.tdd_projeto.application.service.RankingPosicao;
+import com.example.tdd_projeto.application.service.RankingService;
+import com.example.tdd_projeto.application.service.RankingSnapshotService;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.RankingRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import com.example.tdd_projeto.shared.dto.RankingDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Testes do RankingConsultaService")
+class RankingConsultaServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Autowired
+    private RankingConsultaService consultaService;
+
+    @Autowired
+    private RankingSnapshotService snapshotService;
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private JanelaDeslizanteService janelas;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private PontuacaoPeriodoService pontuacaoPeriodoService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Usuario joao;
+    private Usuario maria;
+
+    @BeforeEach
+    void setUp() {
+        joao = usuarioRepository.save(novoUsuario("João Silva", "joao@teste.com"));
+        maria = usuarioRepository.save(novoUsuario("Maria Santos", "maria@teste.com"));
+        engajar(joao, "POSTAGEM");
+        engajar(maria, "CURTIDA");
+        snapshotService.gerarSnapshot(PeriodoRanking.DIARIO, HOJE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rankingRepository.deleteAll();
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+        consultaService.limpar();
+    }
+
+    @Test
+    @DisplayName("Leituras repetidas devem ser servidas pelo cache")
+    void leiturasRepetidasDevemUsarCache() {
+        // WHEN
+        List<RankingDTO> primeira = consultaService.listar(PeriodoRanking.DIARIO, HOJE, 0);
+        List<RankingDTO> segunda = consultaService.listar(PeriodoRanking.DIARIO, HOJE, 0);
+
+        // THEN
+        assertThat(primeira).extracting(RankingDTO::getUsuarioNome)
+                .containsExactly("João Silva", "Maria Santos");
+        assertThat(segunda).isSameAs(primeira);
+    }
+
+    @Test
+    @DisplayName("Pontuação deve ser atualizada após engajamento (cenário 3)")
+    void pontuacaoDeveSerAtualizadaAposEngajamento() {
+        // GIVEN
+        assertThat(consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().extracting(RankingDTO::getPontuacao).isEqualTo(10);
+
+        // WHEN
+        engajar(maria, "CURTIDA");
+
+        // THEN
+        assertThat(consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().extracting(RankingDTO::getPontuacao).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Alteração de pontuação deve descartar só as posições do usuário alterado")
+    void alteracaoDePontuacaoDeveDescartarSoOUsuarioAlterado() {
+        // GIVEN
+        RankingDTO joaoEmCache = consultaService.buscarDoUsuario(joao.getId(), PeriodoRanking.DIARIO, HOJE)
+                .orElseThrow();
+        RankingDTO mariaEmCache = consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE)
+                .orElseThrow();
+
+        // WHEN
+        engajar(maria, "CURTIDA");
+
+        // THEN
+        assertThat(consultaService.buscarDoUsuario(joao.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().isSameAs(joaoEmCache);
+        assertThat(consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().isNotSameAs(mariaEmCache)
+                .extracting(RankingDTO::getPontuacao).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Engajamento gravado pela JPA deve atualizar a pontuação em cache e a janela")
+    void engajamentoGravadoPelaJpaDeveAtualizarPontuacao() {
+        // GIVEN
+        int naJanela = janelas.pontos(maria.getId(), 7);
+        assertThat(consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().extracting(RankingDTO::getPontuacao).isEqualTo(10);
+
+        // WHEN
+        Engajamento engajamento = new Engajamento();
+        engajamento.setUsuario(maria);
+        engajamento.definirTipo(TipoEngajamento.COMENTARIO);
+        engajamentoRepository.save(engajamento);
+
+        // THEN
+        assertThat(consultaService.buscarDoUsuario(maria.getId(), PeriodoRanking.DIARIO, HOJE))
+                .get().extracting(RankingDTO::getPontuacao).isEqualTo(30);
+        assertThat(janelas.pontos(maria.getId(), 7)).isEqualTo(naJanela + 20);
+    }
+
+    @Test
+    @DisplayName("Período sem snapshot deve deixar o aluno fora do ranking em vez de usar o GERAL")
+    void periodoSemSnapshotNaoDeveUsarOPlacarGeral() {
+        // GIVEN
+        com.example.tdd_projeto.application.service.Usuario aluno =
+                new com.example.tdd_projeto.application.service.Usuario(maria.getId(), "Maria Santos");
+        aluno.registrarEngajamento("curtida");
+
+        // WHEN
+        RankingPosicao diario = rankingService.buscarRanking(aluno, "diario");
+        RankingPosicao semanal = rankingService.buscarRanking(aluno, "semanal");
+
+        // THEN - posição e pontos do snapshot do dia; nenhum snapshot semanal
+        assertThat(diario.getPosicao()).isEqualTo(2);
+        assertThat(diario.getPontuacao()).isEqualTo(10);
+        assertThat(semanal.getPosicao()).isZero();
+    }
+
+    @Test
+    @DisplayName("Regravar o snapshot deve invalidar as páginas em cache")
+    void regravarSnapshotDeveInvalidarPaginas() {
+        // GIVEN
+        consultaService.listar(PeriodoRanking.DIARIO, HOJE, 0);
+        engajar(maria, "POSTAGEM");
+
+        // WHEN
+        snapshotService.gerarSnapshot(PeriodoRanking.DIARIO, HOJE);
+
+        // THEN
+        assertThat(consultaService.listar(PeriodoRanking.DIARIO, HOJE, 0))
+                .extracting(RankingDTO::getUsuarioNome)
+                .containsExactly("Maria Santos", "João Silva");
+    }
+
+    @Test
+    @DisplayName("Percorrer não deve misturar versões quando o snapshot é regravado no meio")
+    void percorrerNaoDeveMisturarVersoesDoSnapshot() {
+        // GIVEN - uma linha por página
+        RankingConsultaService umaPorPagina = new RankingConsultaService(rankingRepository,
+                pontuacaoPeriodoService, new SimpleMeterRegistry(), transactionManager, 1, 100, 60);
+        List<String> percorridos = new ArrayList<>();
+
+        // WHEN - Maria passa João e o snapshot é regravado depois da primeira página
+        umaPorPagina.percorrer(PeriodoRanking.DIARIO, HOJE, pagina -> {
+            if (percorridos.isEmpty()) {
+                CompletableFuture.runAsync(() -> {
+                    engajar(maria, "POSTAGEM");
+                    snapshotService.gerarSnapshot(PeriodoRanking.DIARIO, HOJE);
+                }).join();
+            }
+            pagina.forEach(dto -> percorridos.add(dto.getUsuarioNome()));
+        });
+
+        // THEN
+        assertThat(percorridos).containsExactly("João Silva", "Maria Santos");
+        assertThat(consultaService.listar(PeriodoRanking.DIARIO, HOJE, 0))
+                .extracting(RankingDTO::getUsuarioNome)
+                .containsExactly("Maria Santos", "João Silva");
+    }
+
+    private void engajar(Usuario usuario, String tipo) {
+        ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                .usuarioId(usuario.getId())
+                .tipo(tipo)
+                .build());
+    }
+
+    private Usuario novoUsuario(String nome, String email) {
+        return Usuario.builder()
+                .nome(nome)
+                .email(Email.de(email))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.tdd_projeto.service;
 
 import org.junit.jupiter.api.Test;
 
+import com.example.tdd_projeto.application.service.PlacarRanking;
 import com.example.tdd_projeto.application.service.RankingPosicao;
 import com.example.tdd_projeto.application.service.RankingService;
 import com.example.tdd_projeto.application.service.Usuario;
@@ -64,4 +65,66 @@ public class RankingServiceTest {
         assertNotNull(posicao);
         assertTrue(posicao.getPosicao() > 0);
     }
+
+    // Posição real entre alunos do mesmo placar
+    @Test
+    void deveOrdenarAlunosDoMesmoPlacarPelaPontuacao() {
+        PlacarRanking placar = new PlacarRanking();
+        placar.atualizar(1L, 40);
+        placar.atualizar(2L, 70);
+        RankingService rankingService = new RankingService(placar);
+        Usuario ana = new Usuario(1L, "ana");
+        ana.registrarEngajamento("postagem");
+        Usuario bia = new Usuario(2L, "bia");
+        bia.registrarEngajamento("postagem");
+        bia.registrarEngajamento("resposta");
+
+        RankingPosicao posicaoAna = rankingService.buscarRanking(ana, "semanal");
+        RankingPosicao posicaoBia = rankingService.buscarRanking(bia, "semanal");
+
+        assertEquals(2, posicaoAna.getPosicao());
+        assertEquals(40, posicaoAna.getPontuacao());
+        assertEquals(1, posicaoBia.getPosicao());
+        assertEquals(70, posicaoBia.getPontuacao());
+    }
+
+    // Consultar o ranking não pode alterar o placar compartilhado; quem está fora
+    // dele é comparado pelos pontos dos seus engajamentos, na escala do placar
+    @Test
+    void naoDeveAlterarOPlacarAoConsultar() {
+        PlacarRanking placar = new PlacarRanking();
+        placar.atualizar(1L, 80);
+        RankingService rankingService = new RankingService(placar);
+        Usuario ana = new Usuario(1L, "ana");
+        ana.registrarEngajamento("postagem");
+        Usuario bia = new Usuario(2L, "bia");
+        bia.registrarEngajamento("postagem");
+
+        rankingService.buscarRanking(ana, "semanal");
+        RankingPosicao posicaoBia = rankingService.buscarRanking(bia, "semanal");
+
+        assertEquals(Integer.valueOf(80), placar.pontuacao(1L));
+        assertNull(placar.pontuacao(2L));
+        assertEquals(2, posicaoBia.getPosicao());
+        assertEquals(50, posicaoBia.getPontuacao());
+    }
+
+    @Test
+    void deveRejeitarPeriodoDesconhecido() {
+        Usuario aluno = new Usuario("ana");
+        RankingService rankingService = new RankingService();
+
+        assertThrows(IllegalArgumentException.class, () -> rankingService.buscarRanking(aluno, "bimestral"));
+        assertThrows(IllegalArgumentException.class, () -> rankingService.buscarRanking(aluno, null));
+    }
+
+    @Test
+    void deveAceitarPeriodoEmQualquerCaixa() {
+        Usuario aluno = new Usuario("ana");
+        RankingService rankingService = new RankingService();
+
+        RankingPosicao posicao = rankingService.buscarRanking(aluno, "MENSAL");
+
+        assertEquals("MENSAL", posicao.getPeriodo());
+    }
 }
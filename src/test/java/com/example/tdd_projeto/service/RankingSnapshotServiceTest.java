@@ -0,0 +1,168 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.application.service.RankingSnapshotService;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Ranking;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.RankingRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RankingSnapshotService.class, PontuacaoPeriodoService.class, SimpleMeterRegistry.class})
+@DisplayName("Testes do RankingSnapshotService")
+class RankingSnapshotServiceTest {
+
+    private static final LocalDate SEGUNDA = LocalDate.of(2025, 11, 3);
+
+    @Autowired
+    private RankingSnapshotService snapshotService;
+
+    @Autowired
+    private PontuacaoPeriodoService pontuacaoPeriodoService;
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Usuario joao;
+    private Usuario maria;
+    private Usuario paulo;
+
+    @BeforeEach
+    void setUp() {
+        joao = entityManager.persist(novoUsuario("João Silva", "joao@teste.com"));
+        maria = entityManager.persist(novoUsuario("Maria Santos", "maria@teste.com"));
+        paulo = entityManager.persist(novoUsuario("Paulo Souza", "paulo@teste.com"));
+    }
+
+    @Test
+    @DisplayName("Deve ranquear usuários pela soma de pontos do período")
+    void deveRanquearPelaSomaDoPeriodo() {
+        // GIVEN
+        engajar(joao, TipoEngajamento.POSTAGEM, SEGUNDA.atTime(10, 0));       // 50
+        engajar(maria, TipoEngajamento.RESPOSTA, SEGUNDA.atTime(11, 0));      // 30
+        engajar(maria, TipoEngajamento.RESPOSTA, SEGUNDA.plusDays(2).atTime(9, 0)); // 30
+        engajar(paulo, TipoEngajamento.POSTAGEM, SEGUNDA.minusDays(1).atTime(9, 0)); // semana anterior
+        gravarEngajamentos();
+
+        // WHEN
+        int ranqueados = snapshotService.gerarSnapshot(PeriodoRanking.SEMANAL, SEGUNDA.plusDays(3));
+
+        // THEN
+        List<Ranking> ranking = buscar(PeriodoRanking.SEMANAL);
+        assertThat(ranqueados).isEqualTo(2);
+        assertThat(ranking).extracting(r -> r.getUsuario().getId())
+                .containsExactly(maria.getId(), joao.getId());
+        assertThat(ranking).extracting(Ranking::getPontuacao).containsExactly(60, 50);
+        assertThat(ranking).extracting(Ranking::getVariacaoFormatada).containsOnly("=");
+    }
+
+    @Test
+    @DisplayName("Empates devem dividir a posição")
+    void empatesDevemDividirPosicao() {
+        // GIVEN
+        engajar(joao, TipoEngajamento.CURTIDA, SEGUNDA.atTime(10, 0));
+        engajar(maria, TipoEngajamento.CURTIDA, SEGUNDA.atTime(10, 0));
+        engajar(paulo, TipoEngajamento.POSTAGEM, SEGUNDA.atTime(10, 0));
+        gravarEngajamentos();
+
+        // WHEN
+        snapshotService.gerarSnapshot(PeriodoRanking.DIARIO, SEGUNDA);
+
+        // THEN
+        assertThat(buscar(PeriodoRanking.DIARIO)).extracting(Ranking::getPosicao)
+                .containsExactly(1, 2, 2);
+    }
+
+    @Test
+    @DisplayName("Deve calcular variação em relação ao snapshot anterior")
+    void deveCalcularVariacaoComSnapshotAnterior() {
+        // GIVEN
+        engajar(joao, TipoEngajamento.POSTAGEM, SEGUNDA.atTime(10, 0));
+        engajar(maria, TipoEngajamento.CURTIDA, SEGUNDA.atTime(10, 0));
+        gravarEngajamentos();
+        snapshotService.gerarSnapshot(PeriodoRanking.GERAL, SEGUNDA);
+
+        engajar(maria, TipoEngajamento.POSTAGEM, SEGUNDA.plusDays(1).atTime(10, 0));
+        gravarEngajamentos();
+
+        // WHEN
+        snapshotService.gerarSnapshot(PeriodoRanking.GERAL, SEGUNDA.plusDays(1));
+        entityManager.clear();
+
+        // THEN
+        Ranking rankingMaria = rankingRepository
+                .findByUsuarioAndPeriodoAndDataReferencia(maria, PeriodoRanking.GERAL, SEGUNDA.plusDays(1))
+                .orElseThrow();
+        Ranking rankingJoao = rankingRepository
+                .findByUsuarioAndPeriodoAndDataReferencia(joao, PeriodoRanking.GERAL, SEGUNDA.plusDays(1))
+                .orElseThrow();
+        assertThat(rankingMaria.getPosicao()).isEqualTo(1);
+        assertThat(rankingMaria.getVariacaoFormatada()).isEqualTo("+1");
+        assertThat(rankingJoao.getVariacaoFormatada()).isEqualTo("-1");
+    }
+
+    @Test
+    @DisplayName("Deve substituir snapshot existente sem violar a restrição única")
+    void deveSubstituirSnapshotExistente() {
+        // GIVEN
+        engajar(joao, TipoEngajamento.POSTAGEM, SEGUNDA.atTime(10, 0));
+        gravarEngajamentos();
+        snapshotService.gerarSnapshot(PeriodoRanking.MENSAL, SEGUNDA);
+
+        // WHEN
+        int ranqueados = snapshotService.gerarSnapshot(PeriodoRanking.MENSAL, SEGUNDA);
+
+        // THEN
+        assertThat(ranqueados).isEqualTo(1);
+        assertThat(buscar(PeriodoRanking.MENSAL)).hasSize(1);
+    }
+
+    private void gravarEngajamentos() {
+        // Engajamentos persistidos direto pela JPA: agregados recalculados pela rotina de reparo
+        entityManager.flush();
+        pontuacaoPeriodoService.reconstruir();
+    }
+
+    private List<Ranking> buscar(PeriodoRanking periodo) {
+        entityManager.clear();
+        return rankingRepository.findByPeriodoOrderByPosicaoAsc(periodo);
+    }
+
+    private Usuario novoUsuario(String nome, String email) {
+        return Usuario.builder()
+                .nome(nome)
+                .email(Email.de(email))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build();
+    }
+
+    private void engajar(Usuario usuario, TipoEngajamento tipo, LocalDateTime quando) {
+        entityManager.persist(Engajamento.builder()
+                .usuario(usuario)
+                .tipo(tipo)
+                .pontos(tipo.getPontos())
+                .dataEngajamento(quando)
+                .build());
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.EngajamentoIngestaoService;
+import com.example.tdd_projeto.application.service.PlacarRanking;
+import com.example.tdd_projeto.application.service.PontuacaoPeriodoService;
+import com.example.tdd_projeto.application.service.ReconciliadorContadoresConteudo;
+import com.example.tdd_projeto.application.service.TendenciaConteudoService;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Engajamento;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+import com.example.tdd_projeto.domain.entity.Ranking.PeriodoRanking;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.ConteudoRepository;
+import com.example.tdd_projeto.domain.repository.ElegibilidadeRecompensaRepository;
+import com.example.tdd_projeto.domain.repository.EngajamentoRepository;
+import com.example.tdd_projeto.domain.repository.PontuacaoPeriodoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import com.example.tdd_projeto.shared.dto.EngajamentoDTO;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Testes dos contadores de engajamentos dos conteúdos")
+class ReconciliadorContadoresConteudoTest {
+
+    @Autowired
+    private EngajamentoIngestaoService ingestaoService;
+
+    @Autowired
+    private ReconciliadorContadoresConteudo reconciliador;
+
+    @Autowired
+    private PlacarRanking placar;
+
+    @Autowired
+    private TendenciaConteudoService tendencias;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ConteudoRepository conteudoRepository;
+
+    @Autowired
+    private EngajamentoRepository engajamentoRepository;
+
+    @Autowired
+    private PontuacaoPeriodoRepository pontuacaoPeriodoRepository;
+
+    @Autowired
+    private ElegibilidadeRecompensaRepository elegibilidadeRecompensaRepository;
+
+    @Autowired
+    private PontuacaoPeriodoService pontuacaoPeriodoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Usuario usuario;
+    private Conteudo artigo;
+    private Conteudo tutorial;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Carla Mendes")
+                .email(Email.de("carla@teste.com"))
+                .pontuacaoTotal(0)
+                .ativo(true)
+                .build());
+        artigo = conteudo("Introdução ao TDD", TipoConteudo.ARTIGO);
+        tutorial = conteudo("Testes com JUnit 5", TipoConteudo.TUTORIAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engajamentoRepository.deleteAll();
+        elegibilidadeRecompensaRepository.deleteAll();
+        pontuacaoPeriodoRepository.deleteAll();
+        conteudoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        placar.limpar();
+        tendencias.limpar();
+    }
+
+    @Test
+    @DisplayName("Gravar engajamentos deve somar os contadores sem carregar a coleção")
+    void gravarDeveSomarContadores() {
+        // WHEN
+        enviar(artigo, TipoEngajamento.CURTIDA, 3);
+        enviar(artigo, TipoEngajamento.COMENTARIO, 1);
+        enviar(tutorial, TipoEngajamento.COMPARTILHAMENTO, 2);
+
+        // THEN - entidade desanexada: acessar a coleção aqui falharia
+        Conteudo lido = conteudoRepository.findById(artigo.getId()).orElseThrow();
+        assertThat(Hibernate.isInitialized(lido.getEngajamentos())).isFalse();
+        assertThat(lido.getTotalEngajamentos()).isEqualTo(4);
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.CURTIDA)).isEqualTo(3);
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.COMENTARIO)).isEqualTo(1);
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.POSTAGEM)).isZero();
+        assertThat(conteudoRepository.findById(tutorial.getId()).orElseThrow()
+                .getTotalEngajamentos(TipoEngajamento.COMPARTILHAMENTO)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Remover engajamentos deve desfazer contadores e pontos")
+    void removerDeveDesfazerContadoresEPontos() {
+        // GIVEN
+        enviar(artigo, TipoEngajamento.CURTIDA, 3);
+        enviar(artigo, TipoEngajamento.COMENTARIO, 1);
+        List<Long> curtidas = engajamentoRepository.findByTipo(TipoEngajamento.CURTIDA).stream()
+                .map(Engajamento::getId)
+                .limit(2)
+                .toList();
+
+        // WHEN
+        int removidos = ingestaoService.remover(List.of(curtidas.get(0), curtidas.get(1), 999_999L));
+
+        // THEN
+        assertThat(removidos).isEqualTo(2);
+        Conteudo lido = conteudoRepository.findById(artigo.getId()).orElseThrow();
+        assertThat(lido.getTotalEngajamentos()).isEqualTo(2);
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.CURTIDA)).isEqualTo(1);
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal())
+                .isEqualTo(10 + 20);
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(10 + 20);
+        assertThat(ingestaoService.remover(curtidas)).isZero();
+    }
+
+    @Test
+    @DisplayName("Engajamento gravado em cascata pela JPA deve somar contadores e agregados")
+    void engajamentoGravadoPelaJpaDeveSomarContadores() {
+        // WHEN
+        gravarPelaJpa(artigo, TipoEngajamento.COMENTARIO);
+
+        // THEN
+        assertThat(engajamentoRepository.count()).isEqualTo(1);
+        Conteudo lido = conteudoRepository.findById(artigo.getId()).orElseThrow();
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.COMENTARIO)).isEqualTo(1);
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isEqualTo(20);
+
+        // WHEN - remoção pela JPA desfaz os dois
+        engajamentoRepository.deleteAll();
+
+        // THEN - sem mexer nos pontos do usuário, que o INSERT pela JPA não somou
+        assertThat(conteudoRepository.findById(artigo.getId()).orElseThrow().getTotalEngajamentos()).isZero();
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isZero();
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal()).isZero();
+        assertThat(placar.pontuacao(usuario.getId())).isNull();
+        assertThat(reconciliador.reconciliar()).isZero();
+    }
+
+    @Test
+    @DisplayName("Engajamento da ingestão removido pela JPA deve desfazer os pontos e o placar")
+    void engajamentoDaIngestaoRemovidoPelaJpaDeveDesfazerPontos() {
+        // GIVEN
+        enviar(artigo, TipoEngajamento.CURTIDA, 1);
+        enviar(artigo, TipoEngajamento.COMENTARIO, 1);
+        Long comentario = engajamentoRepository.findByTipo(TipoEngajamento.COMENTARIO).get(0).getId();
+
+        // WHEN
+        engajamentoRepository.deleteById(comentario);
+
+        // THEN
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal()).isEqualTo(10);
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(10);
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isEqualTo(10);
+        assertThat(conteudoRepository.findById(artigo.getId()).orElseThrow().getTotalEngajamentos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Engajamento da JPA removido pela ingestão não deve desfazer pontos que não somou")
+    void engajamentoDaJpaRemovidoPelaIngestaoNaoDeveDesfazerPontos() {
+        // GIVEN
+        enviar(artigo, TipoEngajamento.CURTIDA, 1);
+        Long comentario = gravarPelaJpa(artigo, TipoEngajamento.COMENTARIO);
+
+        // WHEN
+        int removidos = ingestaoService.remover(List.of(comentario));
+
+        // THEN
+        assertThat(removidos).isEqualTo(1);
+        assertThat(usuarioRepository.findById(usuario.getId()).orElseThrow().getPontuacaoTotal()).isEqualTo(10);
+        assertThat(placar.pontuacao(usuario.getId())).isEqualTo(10);
+        assertThat(pontuacaoPeriodoService.pontos(usuario.getId(), PeriodoRanking.GERAL, LocalDate.now()))
+                .isEqualTo(10);
+        assertThat(conteudoRepository.findById(artigo.getId()).orElseThrow().getTotalEngajamentos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reconciliação deve corrigir só os contadores divergentes")
+    void reconciliacaoDeveCorrigirContadoresDivergentes() {
+        // GIVEN - engajamento gravado fora do gravador e contador adulterado
+        enviar(artigo, TipoEngajamento.CURTIDA, 2);
+        jdbcTemplate.update("INSERT INTO engajamentos (usuario_id, conteudo_id, tipo, pontos, data_engajamento) "
+                + "VALUES (?, ?, 'RESPOSTA', 30, CURRENT_TIMESTAMP)", usuario.getId(), tutorial.getId());
+        jdbcTemplate.update("UPDATE conteudos SET total_curtidas = 7, total_engajamentos = 7 WHERE id = ?",
+                artigo.getId());
+
+        // WHEN
+        int corrigidos = reconciliador.reconciliar();
+
+        // THEN
+        assertThat(corrigidos).isEqualTo(2);
+        Conteudo lido = conteudoRepository.findById(artigo.getId()).orElseThrow();
+        assertThat(lido.getTotalEngajamentos()).isEqualTo(2);
+        assertThat(lido.getTotalEngajamentos(TipoEngajamento.CURTIDA)).isEqualTo(2);
+        assertThat(conteudoRepository.findById(tutorial.getId()).orElseThrow()
+                .getTotalEngajamentos(TipoEngajamento.RESPOSTA)).isEqualTo(1);
+        assertThat(reconciliador.reconciliar()).isZero();
+    }
+
+    private Conteudo conteudo(String titulo, TipoConteudo tipo) {
+        return conteudoRepository.save(Conteudo.builder()
+                .autor(usuario)
+                .titulo(titulo)
+                .texto("Texto do conteúdo.")
+                .tipo(tipo)
+                .build());
+    }
+
+    private Long gravarPelaJpa(Conteudo conteudo, TipoEngajamento tipo) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Conteudo gerenciado = conteudoRepository.findById(conteudo.getId()).orElseThrow();
+            Engajamento engajamento = new Engajamento();
+            engajamento.setUsuario(usuarioRepository.getReferenceById(usuario.getId()));
+            engajamento.definirTipo(tipo);
+            gerenciado.adicionarEngajamento(engajamento);
+            assertThat(Hibernate.isInitialized(gerenciado.getEngajamentos())).isFalse();
+            conteudoRepository.save(gerenciado);
+        });
+        return engajamentoRepository.findByTipo(tipo).get(0).getId();
+    }
+
+    private void enviar(Conteudo conteudo, TipoEngajamento tipo, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            ingestaoService.enviarEAguardar(EngajamentoDTO.builder()
+                    .usuarioId(usuario.getId())
+                    .conteudoId(conteudo.getId())
+                    .tipo(tipo.name())
+                    .build());
+        }
+    }
+}
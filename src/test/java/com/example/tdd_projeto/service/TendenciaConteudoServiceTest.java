@@ -0,0 +1,146 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.TendenciaConteudoService;
+import com.example.tdd_projeto.application.service.TendenciaConteudoService.ConteudoTendencia;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Testes do TendenciaConteudoService")
+class TendenciaConteudoServiceTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    private RelogioAjustavel relogio;
+    private TendenciaConteudoService tendencias;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioAjustavel(AGORA);
+        // Meia-vida de 24h, top de 5 por tipo; os tipos são informados, então o JDBC não é usado
+        tendencias = new TendenciaConteudoService(null, relogio, 24, 1, 5);
+    }
+
+    @Test
+    @DisplayName("Pontuação deve cair pela metade a cada meia-vida")
+    void pontuacaoDeveDecairComAMeiaVida() {
+        // GIVEN
+        tendencias.registrar(1L, TipoConteudo.ARTIGO, 80, AGORA);
+        tendencias.registrar(1L, TipoConteudo.ARTIGO, 40, AGORA.minusHours(24));
+
+        // THEN
+        assertThat(tendencias.pontuacao(1L)).isCloseTo(100.0, within(1e-6));
+
+        // WHEN
+        relogio.avancarHoras(48);
+
+        // THEN
+        assertThat(tendencias.pontuacao(1L)).isCloseTo(25.0, within(1e-6));
+        assertThat(tendencias.pontuacao(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Conteúdo recente deve passar à frente de um antigo com mais eventos")
+    void conteudoRecenteDevePassarAFrente() {
+        // GIVEN - 300 pontos há 3 dias (= 37,5 hoje) contra 50 pontos agora
+        tendencias.registrar(1L, TipoConteudo.ARTIGO, 300, AGORA.minusDays(3));
+        tendencias.registrar(2L, TipoConteudo.ARTIGO, 50, AGORA);
+        tendencias.registrar(3L, TipoConteudo.TUTORIAL, 500, AGORA);
+
+        // WHEN
+        List<ConteudoTendencia> top = tendencias.top(TipoConteudo.ARTIGO, 50);
+
+        // THEN
+        assertThat(top).extracting(ConteudoTendencia::conteudoId).containsExactly(2L, 1L);
+        assertThat(top.get(1).pontuacao()).isCloseTo(37.5, within(1e-6));
+        assertThat(tendencias.top(TipoConteudo.TUTORIAL, 50)).extracting(ConteudoTendencia::conteudoId)
+                .containsExactly(3L);
+        assertThat(tendencias.top(TipoConteudo.PERGUNTA, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Visualizações devem somar o peso configurado no instante atual")
+    void visualizacoesDevemSomarNoInstanteAtual() {
+        // GIVEN
+        tendencias.registrar(1L, TipoConteudo.PERGUNTA, 10, AGORA.minusHours(24));
+
+        // WHEN
+        tendencias.registrarVisualizacoes(Map.of(1L, 7L));
+
+        // THEN
+        assertThat(tendencias.pontuacao(1L)).isCloseTo(12.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("Top limitado deve coincidir com a ordenação de todas as pontuações")
+    void topLimitadoDeveCoincidirComForcaBruta() {
+        // GIVEN
+        Random aleatorio = new Random(24);
+        Map<Long, Double> esperadas = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long conteudoId = 1 + aleatorio.nextInt(200);
+            int peso = 1 + aleatorio.nextInt(50);
+            LocalDateTime quando = AGORA.minusMinutes(aleatorio.nextInt(10 * 24 * 60));
+            tendencias.registrar(conteudoId, TipoConteudo.DISCUSSAO, peso, quando);
+            double idadeHoras = Duration.between(quando, AGORA).toSeconds() / 3600.0;
+            esperadas.merge(conteudoId, peso * Math.pow(0.5, idadeHoras / 24), Double::sum);
+        }
+
+        // WHEN
+        List<ConteudoTendencia> top = tendencias.top(TipoConteudo.DISCUSSAO, 50);
+
+        // THEN - o top guarda 5 itens
+        List<Map.Entry<Long, Double>> ordenadas = new ArrayList<>(esperadas.entrySet());
+        ordenadas.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+        assertThat(top).hasSize(5);
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(top.get(i).conteudoId()).isEqualTo(ordenadas.get(i).getKey());
+            assertThat(top.get(i).pontuacao()).isCloseTo(ordenadas.get(i).getValue(), within(1e-6));
+        }
+        assertThat(tendencias.tamanho()).isEqualTo(esperadas.size());
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+        private Instant agora;
+
+        private RelogioAjustavel(LocalDateTime agora) {
+            this.agora = agora.toInstant(ZoneOffset.UTC);
+        }
+
+        void avancarHoras(int horas) {
+            agora = agora.plusSeconds(horas * 3_600L);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
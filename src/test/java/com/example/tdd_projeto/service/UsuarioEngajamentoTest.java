@@ -0,0 +1,76 @@
+package com.example.tdd_projeto.service;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.tdd_projeto.application.service.Usuario;
+import com.example.tdd_projeto.domain.entity.Engajamento.TipoEngajamento;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UsuarioEngajamentoTest {
+
+    @Test
+    void deveSomarPontosConformeTipoDeEngajamento() {
+        Usuario aluno = new Usuario("joao");
+
+        aluno.registrarEngajamento("postagem");
+        aluno.registrarEngajamento("resposta");
+        aluno.registrarEngajamento(TipoEngajamento.COMENTARIO);
+
+        assertEquals(50 + 30 + 20, aluno.getPontuacaoTotal());
+        assertEquals(3, aluno.getTotalEngajamentos());
+        assertEquals(1, aluno.getQuantidade(TipoEngajamento.POSTAGEM));
+    }
+
+    @Test
+    void tipoDesconhecidoDeveContarNoGrupoOutros() {
+        Usuario aluno = new Usuario("maria");
+
+        aluno.registrarEngajamento("desafio");
+
+        assertEquals(10, aluno.getPontuacaoTotal());
+        assertEquals(1, aluno.getQuantidadeOutros());
+        assertEquals(0, aluno.getQuantidade(TipoEngajamento.CURTIDA));
+        assertEquals(List.of("desafio"), aluno.getEngajamentos());
+    }
+
+    @Test
+    void deveListarOsNomesComoForamRegistrados() {
+        Usuario aluno = new Usuario("bia");
+
+        aluno.registrarEngajamento("Postagem");
+        aluno.registrarEngajamento(TipoEngajamento.RESPOSTA);
+        aluno.registrarEngajamento("Postagem");
+
+        assertEquals(List.of("Postagem", "Postagem", "resposta"), aluno.getEngajamentos());
+        assertEquals(2, aluno.getQuantidade(TipoEngajamento.POSTAGEM));
+    }
+
+    @Test
+    void deveAgruparGrafiasENomesDesconhecidosNaOrdemDoPrimeiroRegistro() {
+        Usuario aluno = new Usuario("caio");
+
+        aluno.registrarEngajamento("postagem");
+        aluno.registrarEngajamento("desafio");
+        aluno.registrarEngajamento("Postagem");
+        aluno.registrarEngajamento(TipoEngajamento.POSTAGEM);
+        aluno.registrarEngajamento("desafio");
+
+        assertEquals(List.of("postagem", "postagem", "desafio", "desafio", "Postagem"), aluno.getEngajamentos());
+        assertEquals(3, aluno.getQuantidade(TipoEngajamento.POSTAGEM));
+        assertEquals(2, aluno.getQuantidadeOutros());
+    }
+
+    @Test
+    void deveListarUmElementoPorEngajamento() {
+        Usuario aluno = new Usuario("ana");
+
+        aluno.registrarEngajamento("postagem");
+        aluno.registrarEngajamento("postagem");
+
+        assertEquals(2, aluno.getEngajamentos().size());
+        assertTrue(aluno.getEngajamentos().stream().allMatch("postagem"::equals));
+    }
+}
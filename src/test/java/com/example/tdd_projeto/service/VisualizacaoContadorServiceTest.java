@@ -0,0 +1,161 @@
+package com.example.tdd_projeto.service;
+
+import com.example.tdd_projeto.application.service.TendenciaConteudoService;
+import com.example.tdd_projeto.application.service.VisualizacaoContadorService;
+import com.example.tdd_projeto.domain.entity.Conteudo;
+import com.example.tdd_projeto.domain.entity.Conteudo.TipoConteudo;
+import com.example.tdd_projeto.domain.entity.Usuario;
+import com.example.tdd_projeto.domain.repository.ConteudoRepository;
+import com.example.tdd_projeto.domain.repository.UsuarioRepository;
+import com.example.tdd_projeto.domain.valueobject.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@DisplayName("Testes do VisualizacaoContadorService")
+class VisualizacaoContadorServiceTest {
+
+    @Autowired
+    private VisualizacaoContadorService contador;
+
+    @Autowired
+    private TendenciaConteudoService tendencias;
+
+    @Autowired
+    private ConteudoRepository conteudoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Conteudo conteudo;
+
+    @BeforeEach
+    void setUp() {
+        Usuario autor = usuarioRepository.save(Usuario.builder()
+                .nome("Ana Costa")
+                .email(Email.de("ana@teste.com"))
+                .build());
+        conteudo = conteudoRepository.save(Conteudo.builder()
+                .autor(autor)
+                .titulo("Introdução ao TDD")
+                .texto("Escreva o teste antes do código.")
+                .tipo(TipoConteudo.ARTIGO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        contador.descarregar();
+        conteudoRepository.deleteAll();
+        usuarioRepository.deleteAll();
+        tendencias.limpar();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar visualizações e gravá-las com um único incremento")
+    void deveAgruparVisualizacoes() {
+        // WHEN
+        for (int i = 0; i < 2_500; i++) {
+            contador.registrarVisualizacao(conteudo.getId());
+        }
+
+        // THEN - leitura já considera as visualizações pendentes
+        assertThat(contador.visualizacoes(conteudo.getId())).isEqualTo(2_500);
+        contador.descarregar();
+        assertThat(conteudoRepository.findById(conteudo.getId()).orElseThrow().getVisualizacoes())
+                .isEqualTo(2_500);
+        assertThat(contador.visualizacoes(conteudo.getId())).isEqualTo(2_500);
+    }
+
+    @Test
+    @DisplayName("Não deve perder visualizações concorrentes enquanto elas são gravadas")
+    void naoDevePerderVisualizacoesConcorrentes() throws InterruptedException {
+        // GIVEN
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicBoolean registrando = new AtomicBoolean(true);
+        Thread gravacao = new Thread(() -> {
+            while (registrando.get()) {
+                contador.descarregar();
+            }
+        });
+        gravacao.start();
+
+        // WHEN
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    contador.registrarVisualizacao(conteudo.getId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        registrando.set(false);
+        gravacao.join();
+
+        // THEN - leitura enxerga as visualizações antes e depois da última gravação
+        assertThat(contador.visualizacoes(conteudo.getId())).isEqualTo(8_000);
+        contador.descarregar();
+        assertThat(conteudoRepository.findById(conteudo.getId()).orElseThrow().getVisualizacoes())
+                .isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("Visualizações gravadas devem alimentar as tendências do tipo do conteúdo")
+    void visualizacoesDevemAlimentarTendencias() {
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            contador.registrarVisualizacao(conteudo.getId());
+        }
+        contador.descarregar();
+
+        // THEN
+        assertThat(tendencias.top(TipoConteudo.ARTIGO, 50))
+                .singleElement()
+                .satisfies(tendencia -> {
+                    assertThat(tendencia.conteudoId()).isEqualTo(conteudo.getId());
+                    assertThat(tendencia.pontuacao()).isCloseTo(10.0, within(0.01));
+                });
+        assertThat(tendencias.top(TipoConteudo.TUTORIAL, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Gravação pelo limite não deve atualizar tendências na thread da visualização")
+    void gravacaoPeloLimiteNaoDeveAtualizarTendencias() {
+        // GIVEN - limite de 5 visualizações pendentes
+        VisualizacaoContadorService contadorPequeno = new VisualizacaoContadorService(
+                jdbcTemplate, transactionTemplate, conteudoRepository, tendencias, 5);
+
+        // WHEN
+        for (int i = 0; i < 5; i++) {
+            contadorPequeno.registrarVisualizacao(conteudo.getId());
+        }
+
+        // THEN - gravado no banco, tendências ficam para a gravação periódica
+        assertThat(conteudoRepository.findById(conteudo.getId()).orElseThrow().getVisualizacoes()).isEqualTo(5);
+        assertThat(tendencias.pontuacao(conteudo.getId())).isZero();
+
+        contadorPequeno.descarregar();
+        assertThat(tendencias.pontuacao(conteudo.getId())).isCloseTo(5.0, within(0.01));
+    }
+}